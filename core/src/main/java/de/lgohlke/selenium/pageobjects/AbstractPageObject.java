@@ -0,0 +1,146 @@
+package de.lgohlke.selenium.pageobjects;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+import java.lang.reflect.Field;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@Getter
+@Slf4j
+public abstract class AbstractPageObject implements PageObject {
+    private final WebDriver         driver;
+    private final DriverContext     context;
+    private final PageObjectHelper  helper;
+    private       PageFactoryHelper pageFactoryHelper;
+    /**
+     * timeout and polling of {@link #waitFor(ExpectedCondition)}
+     */
+    @Setter
+    @NonNull
+    private       WaitPolicy        waitPolicy = WaitPolicy.DEFAULT;
+
+    /**
+     * the context and the stateless {@link PageObjectHelper} are shared by all page objects of the driver
+     *
+     * @see DriverContext
+     */
+    public AbstractPageObject(WebDriver driver) {
+        this.driver = driver;
+        context = DriverContext.of(driver);
+        helper = context.getPageObjectHelper();
+    }
+
+    /**
+     * created on first use, its settings (e.g. the validation policy) apply to this page object only
+     */
+    public PageFactoryHelper getPageFactoryHelper() {
+        if (pageFactoryHelper == null) {
+            pageFactoryHelper = context.newPageFactoryHelper();
+        }
+        return pageFactoryHelper;
+    }
+
+    protected void waitFor(ExpectedCondition condition) {
+        waitFor(condition, waitPolicy);
+    }
+
+    protected void waitFor(ExpectedCondition condition, int seconds) {
+        waitFor(condition, waitPolicy.withTimeout(seconds, TimeUnit.SECONDS));
+    }
+
+    protected void waitFor(ExpectedCondition<?> condition, WaitPolicy policy) {
+        PageObjectTracer tracer  = PageObjectTracer.active();
+        long             started = tracer == null ? 0 : System.nanoTime();
+        try {
+            AdaptiveWait.until(driver, condition, policy);
+        } catch (Exception e) {
+            context.propagateFailure(e);
+        } finally {
+            if (tracer != null) {
+                tracer.record("waitFor " + condition, "wait", started);
+            }
+        }
+    }
+
+    /**
+     * fills the form in as few round-trips as possible, see {@link PageObjectHelper#fill(Map)}
+     * <pre>
+     *     fill(ImmutableMap.of("login", "user", "password", "secret", "remember", true, "submit", FormAction.click()));
+     * </pre>
+     *
+     * @param values {@link WebElement} field name of this page object, {@link WebElement} or {@link By} to a
+     *               {@link FormAction}, {@link CharSequence} or {@link Boolean}
+     */
+    protected void fill(Map<?, ?> values) {
+        // a list, hashing the element proxies would look them up
+        List<Map.Entry<?, ?>> resolved = new ArrayList<>(values.size());
+        values.forEach((key, value) -> resolved.add(new SimpleImmutableEntry<>(key instanceof String ? element((String) key)
+                                                                                                 : key, value)));
+        helper.fill(resolved);
+    }
+
+    private WebElement element(String fieldName) {
+        Field field = PageObjectMetadata.of(getClass()).getElementFields().get(fieldName);
+        if (field == null) {
+            throw new IllegalArgumentException("no WebElement field " + fieldName + " in " + getClass().getName());
+        }
+        try {
+            return (WebElement) field.get(this);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    protected <T> CompletableFuture<T> waitForAsync(ExpectedCondition<T> condition) {
+        return waitForAsync(condition, waitPolicy);
+    }
+
+    /**
+     * polls the condition on the async executor of the {@link DriverContext} without blocking a thread in between,
+     * cancelling the future stops polling
+     * <p>
+     * failures are propagated like in {@link #waitFor(ExpectedCondition, WaitPolicy)} and complete the future
+     * exceptionally
+     */
+    protected <T> CompletableFuture<T> waitForAsync(ExpectedCondition<T> condition, WaitPolicy policy) {
+        CompletableFuture<T> wait   = AdaptiveWait.untilAsync(driver, condition, policy, context.getAsyncExecutor());
+        CompletableFuture<T> result = new CompletableFuture<T>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                wait.cancel(mayInterruptIfRunning);
+                return super.cancel(mayInterruptIfRunning);
+            }
+        };
+        wait.whenComplete((value, throwable) -> {
+            if (throwable == null) {
+                result.complete(value);
+            } else if (throwable instanceof CancellationException) {
+                result.cancel(false);
+            } else {
+                Throwable failure = throwable;
+                try {
+                    if (!context.notifyFailure(throwable)) {
+                        failure = new IllegalStateException(throwable);
+                    }
+                } catch (Throwable e) {
+                    failure = e;
+                }
+                result.completeExceptionally(failure);
+            }
+        });
+        return result;
+    }
+}
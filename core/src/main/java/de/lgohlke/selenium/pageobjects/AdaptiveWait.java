@@ -0,0 +1,173 @@
+package de.lgohlke.selenium.pageobjects;
+
+import com.google.common.base.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * waits for a condition according to a {@link WaitPolicy}
+ */
+@Slf4j
+class AdaptiveWait {
+    static final String MUTATION_SCRIPT = "" +
+            "var callback = arguments[arguments.length - 1];\n" +
+            "var done = false;\n" +
+            "var observer = window.MutationObserver ? new MutationObserver(function() { finish(true); }) : null;\n" +
+            "function finish(changed) {\n" +
+            "  if (!done) {\n" +
+            "    done = true;\n" +
+            "    if (observer) { observer.disconnect(); }\n" +
+            "    callback(changed);\n" +
+            "  }\n" +
+            "}\n" +
+            "if (observer) {\n" +
+            "  observer.observe(document, {childList: true, subtree: true, attributes: true, characterData: true});\n" +
+            "}\n" +
+            "setTimeout(function() { finish(false); }, arguments[0]);";
+
+    private AdaptiveWait() {
+    }
+
+    /**
+     * @return the first value of the condition which is neither null nor false
+     * @throws TimeoutException when the condition is not met within the timeout
+     */
+    static <T> T until(WebDriver driver, Function<? super WebDriver, T> condition, WaitPolicy policy) {
+        long             deadline      = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(policy.getTimeoutMillis());
+        long             polling       = policy.getInitialPollingMillis();
+        boolean          mutations     = policy.isMutationDriven() && driver instanceof JavascriptExecutor;
+        RuntimeException lastException = null;
+        while (true) {
+            try {
+                T value = condition.apply(driver);
+                if (isMet(value)) {
+                    return value;
+                }
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                lastException = e;
+            }
+
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining <= 0) {
+                throw timeout(condition, policy, lastException);
+            }
+
+            long wait = Math.min(polling, remaining);
+            if (!mutations || !awaitMutation(driver, Math.min(policy.getMaxPollingMillis(), remaining))) {
+                mutations = false;
+                sleep(wait);
+            }
+            polling = policy.nextPolling(polling);
+        }
+    }
+
+    /**
+     * polls on the executor without blocking a thread between the checks, cancelling the future stops polling
+     * <p>
+     * mutation driven waits are not possible asynchronously, the policy is only used for timeout and polling
+     */
+    static <T> CompletableFuture<T> untilAsync(WebDriver driver,
+                                               Function<? super WebDriver, T> condition,
+                                               WaitPolicy policy,
+                                               ScheduledExecutorService executor) {
+        CompletableFuture<T> future   = new CompletableFuture<>();
+        long                 deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(policy.getTimeoutMillis());
+        executor.execute(new Runnable() {
+            private long             polling = policy.getInitialPollingMillis();
+            private RuntimeException lastException;
+
+            @Override
+            public void run() {
+                if (future.isDone()) {
+                    log.debug("stop polling of cancelled wait for {}", condition);
+                    return;
+                }
+                try {
+                    T value = condition.apply(driver);
+                    if (isMet(value)) {
+                        future.complete(value);
+                        return;
+                    }
+                } catch (NotFoundException | StaleElementReferenceException e) {
+                    lastException = e;
+                } catch (Throwable e) {
+                    // errors too, otherwise the future would never complete
+                    future.completeExceptionally(e);
+                    return;
+                }
+
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    future.completeExceptionally(timeout(condition, policy, lastException));
+                    return;
+                }
+                long wait = Math.min(polling, remaining);
+                polling = policy.nextPolling(polling);
+                executor.schedule(this, wait, TimeUnit.MILLISECONDS);
+            }
+        });
+        return future;
+    }
+
+    private static boolean isMet(Object value) {
+        return value != null && !Boolean.FALSE.equals(value);
+    }
+
+    private static TimeoutException timeout(Object condition, WaitPolicy policy, RuntimeException lastException) {
+        return new TimeoutException("Timed out after " + policy.getTimeoutMillis() +
+                                            " milliseconds waiting for " + condition, lastException);
+    }
+
+    /**
+     * @return false if the driver can not run the script
+     */
+    private static boolean awaitMutation(WebDriver driver, long maxMillis) {
+        try {
+            Object changed = executeAsyncScript(driver, maxMillis, MUTATION_SCRIPT, maxMillis);
+            log.debug("dom changed: {}", changed);
+            return true;
+        } catch (WebDriverException | UnsupportedOperationException e) {
+            log.debug("mutation driven wait not possible, falling back to polling: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * runs an async script which calls back within {@code maxMillis} by itself
+     * <p>
+     * the script timeout of the driver can not be read, it is only raised when the script timed out before
+     * {@code maxMillis} and never lowered
+     */
+    static Object executeAsyncScript(WebDriver driver, long maxMillis, String script, Object... args) {
+        JavascriptExecutor executor = (JavascriptExecutor) driver;
+        long               started  = System.nanoTime();
+        try {
+            return executor.executeAsyncScript(script, args);
+        } catch (TimeoutException e) {
+            if (TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) >= maxMillis) {
+                throw e;
+            }
+            log.debug("script timeout of {} is below {} ms, raising it", driver, maxMillis);
+            driver.manage().timeouts().setScriptTimeout(maxMillis + 1000, TimeUnit.MILLISECONDS);
+            return executor.executeAsyncScript(script, args);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException(e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package de.lgohlke.selenium.pageobjects;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * a {@link Page} of this type is awaited to be ready before its fields are validated: the document is complete, there
+ * are no pending XHR/fetch requests and no running finite animations, and the root element is present
+ * <p>
+ * the page is checked by one script in the browser, when it is not ready within the timeout validation runs anyway
+ */
+@Target({ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+public @interface AwaitPageReady {
+    /**
+     * css selector of an element which has to be present, empty for none
+     */
+    String rootSelector() default "";
+
+    long timeoutMillis() default 10_000;
+}
@@ -0,0 +1,63 @@
+package de.lgohlke.selenium.pageobjects;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.util.List;
+
+/**
+ * element lookups valid for one DOM generation, the generation only changes with told events (see
+ * {@link CachingElementLocatorFactory})
+ * <p>
+ * lists of elements are looked up every time, rows added by a script are not seen as a change of the generation
+ */
+@Slf4j
+@RequiredArgsConstructor
+class CachingElementLocator implements ElementLocator {
+    @Getter
+    private final SearchContext     searchContext;
+    @Getter
+    private final By                by;
+    /**
+     * null if the element can not be located by script
+     */
+    @Getter
+    private final ScriptLocator     scriptLocator;
+    private final NavigationTracker tracker;
+
+    private WebElement element;
+    private long       elementGeneration;
+
+    @Override
+    public synchronized WebElement findElement() {
+        long generation = tracker.getGeneration();
+        if (element == null || elementGeneration != generation) {
+            element = searchContext.findElement(by);
+            elementGeneration = generation;
+        } else {
+            log.debug("use cached element {}", by);
+        }
+        return element;
+    }
+
+    @Override
+    public List<WebElement> findElements() {
+        return searchContext.findElements(by);
+    }
+
+    /**
+     * @return true if {@link #findElement()} will not send a command
+     */
+    synchronized boolean isCached() {
+        return element != null && elementGeneration == tracker.getGeneration();
+    }
+
+    synchronized void invalidate() {
+        element = null;
+    }
+}
@@ -0,0 +1,52 @@
+package de.lgohlke.selenium.pageobjects;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
+
+import java.lang.reflect.Field;
+
+/**
+ * creates locators which remember the found elements of a page object until the DOM generation of the driver changes
+ * <p>
+ * the generation changes with navigations, clicks, value changes and scripts (reported by an
+ * {@link org.openqa.selenium.support.events.EventFiringWebDriver} once {@link DriverContext#startNavigationTracking()}
+ * is called) and with navigations of the {@link PageFactoryHelper}, a stale cached element is looked up once again
+ * <p>
+ * the DOM itself is not observed: a change which is not told (timers, ajax responses, any driver not firing events)
+ * keeps a cached element as long as it stays attached, even if the locator would match another element by now; call
+ * {@link PageFactoryHelper#invalidateNavigationState()} after such a change
+ * <pre>
+ *     DriverContext.of(driver).startNavigationTracking();
+ *     pageFactoryHelper.setElementLocatorFactory(new CachingElementLocatorFactory(driver));
+ * </pre>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CachingElementLocatorFactory implements ElementLocatorFactory {
+    private final SearchContext     searchContext;
+    private final NavigationTracker tracker;
+
+    public CachingElementLocatorFactory(WebDriver driver) {
+        this(driver, NavigationTracker.of(driver));
+    }
+
+    /**
+     * @return a factory locating the fields within the root element of a component
+     */
+    CachingElementLocatorFactory within(WebElement root) {
+        return new CachingElementLocatorFactory(root, tracker);
+    }
+
+    @Override
+    public ElementLocator createLocator(Field field) {
+        return new CachingElementLocator(searchContext,
+                                         new Annotations(field).buildBy(),
+                                         PageObjectMetadata.scriptLocator(field),
+                                         tracker);
+    }
+}
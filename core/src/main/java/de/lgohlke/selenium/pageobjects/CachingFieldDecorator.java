@@ -0,0 +1,76 @@
+package de.lgohlke.selenium.pageobjects;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.Locatable;
+import org.openqa.selenium.internal.WrapsElement;
+import org.openqa.selenium.support.pagefactory.DefaultFieldDecorator;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * element proxies of a {@link CachingElementLocator} look up a stale element once again, those of a
+ * {@link ScriptableElementLocator} keep their locator accessible
+ */
+@Slf4j
+class CachingFieldDecorator extends DefaultFieldDecorator {
+    CachingFieldDecorator(ElementLocatorFactory factory) {
+        super(factory);
+    }
+
+    @Override
+    protected WebElement proxyForLocator(ClassLoader loader, ElementLocator locator) {
+        InvocationHandler handler;
+        if (locator instanceof CachingElementLocator) {
+            handler = new Handler((CachingElementLocator) locator);
+        } else if (locator instanceof ScriptableElementLocator) {
+            handler = new ScriptableElementLocator.Handler((ScriptableElementLocator) locator);
+        } else {
+            return super.proxyForLocator(loader, locator);
+        }
+        return (WebElement) Proxy.newProxyInstance(loader,
+                                                   new Class<?>[]{WebElement.class, WrapsElement.class, Locatable.class},
+                                                   handler);
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    static class Handler implements InvocationHandler {
+        private final CachingElementLocator locator;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            boolean    cached  = locator.isCached();
+            WebElement element = locator.findElement();
+            if ("getWrappedElement".equals(method.getName())) {
+                return element;
+            }
+            try {
+                return method.invoke(element, args);
+            } catch (InvocationTargetException e) {
+                if (cached && e.getCause() instanceof StaleElementReferenceException) {
+                    log.debug("cached element {} is stale, looking it up again", locator.getBy());
+                    locator.invalidate();
+                    return retry(method, args);
+                }
+                throw e.getCause();
+            }
+        }
+
+        private Object retry(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(locator.findElement(), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
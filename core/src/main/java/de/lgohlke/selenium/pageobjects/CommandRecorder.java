@@ -0,0 +1,153 @@
+package de.lgohlke.selenium.pageobjects;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.BeanToJsonConverter;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * records the commands a {@link RemoteWebDriver} sends over the wire with their responses and latencies, to be served
+ * by a {@link ReplayWebDriver}
+ * <p>
+ * one json object per line, gzipped if the file name ends with {@code .gz}; the first line holds the session
+ * <pre>
+ *     try (CommandRecorder recorder = CommandRecorder.record(driver, Paths.get("login-flow.jsonl.gz"))) {
+ *         pageFactoryHelper.initElements(LoginPage.class).login("user", "secret");
+ *     }
+ * </pre>
+ */
+@Slf4j
+public final class CommandRecorder implements CommandExecutor, Closeable {
+    static final String SESSION_ID   = "sessionId";
+    static final String CAPABILITIES = "capabilities";
+    static final String NAME         = "name";
+    static final String PARAMETERS   = "parameters";
+    static final String STATUS       = "status";
+    static final String VALUE        = "value";
+    static final String NANOS        = "nanos";
+
+    private final RemoteWebDriver     driver;
+    private final CommandExecutor     executor;
+    private final Writer              writer;
+    private final BeanToJsonConverter json = new BeanToJsonConverter();
+    private       long                commands;
+    private       boolean             closed;
+    /**
+     * a command could not be written, the recording is incomplete
+     */
+    private       boolean             failed;
+
+    /**
+     * records the commands once it is set as command executor of the driver
+     */
+    CommandRecorder(RemoteWebDriver driver, Writer writer) {
+        this.driver = driver;
+        this.executor = driver.getCommandExecutor();
+        this.writer = writer;
+    }
+
+    /**
+     * decorates the command executor of the driver, wrapped drivers are unwrapped
+     *
+     * @throws IllegalArgumentException if the driver does not send its commands over the wire
+     */
+    public static CommandRecorder record(WebDriver driver, Path file) throws IOException {
+        RemoteWebDriver remote = WireCommandCounter.unwrap(driver);
+        if (remote == null) {
+            throw new IllegalArgumentException("only commands of a RemoteWebDriver can be recorded, not of " + driver);
+        }
+
+        Map<String, Object> session = new HashMap<>();
+        session.put(SESSION_ID, String.valueOf(remote.getSessionId()));
+        session.put(CAPABILITIES, remote.getCapabilities().asMap());
+
+        Writer          writer   = open(file);
+        CommandRecorder recorder = new CommandRecorder(remote, writer);
+        recorder.write(session);
+        if (!WireCommandCounter.setCommandExecutor(remote, recorder)) {
+            writer.close();
+            throw new IllegalStateException("could not record the commands of " + driver);
+        }
+        log.debug("recording commands of {} to {}", remote.getSessionId(), file);
+        return recorder;
+    }
+
+    private static Writer open(Path file) throws IOException {
+        OutputStream out = Files.newOutputStream(file);
+        if (file.getFileName().toString().endsWith(".gz")) {
+            out = new GZIPOutputStream(out);
+        }
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return number of commands recorded so far
+     */
+    public synchronized long getCommands() {
+        return commands;
+    }
+
+    @Override
+    public Response execute(Command command) throws IOException {
+        long     started  = System.nanoTime();
+        Response response = executor.execute(command);
+        long     nanos    = System.nanoTime() - started;
+
+        Map<String, Object> line = new HashMap<>();
+        line.put(NAME, command.getName());
+        line.put(PARAMETERS, command.getParameters());
+        line.put(STATUS, response.getStatus());
+        line.put(VALUE, response.getValue());
+        line.put(NANOS, nanos);
+        synchronized (this) {
+            if (!closed && !failed) {
+                try {
+                    write(line);
+                    commands++;
+                } catch (IOException e) {
+                    // the command itself succeeded
+                    failed = true;
+                    log.warn("stopped recording, could not write command {}: {}", command.getName(), e.getMessage());
+                }
+            }
+        }
+        return response;
+    }
+
+    private void write(Map<String, ?> line) throws IOException {
+        writer.write(json.convert(line));
+        writer.write('\n');
+    }
+
+    /**
+     * stops recording and gives the driver its command executor back, unless it was decorated again since then (the
+     * commands are still executed through this recorder)
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            if (driver.getCommandExecutor() == this) {
+                WireCommandCounter.setCommandExecutor(driver, executor);
+            }
+            writer.close();
+            log.debug("recorded {} commands", commands);
+        }
+    }
+}
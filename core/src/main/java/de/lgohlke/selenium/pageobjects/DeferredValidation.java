@@ -0,0 +1,103 @@
+package de.lgohlke.selenium.pageobjects;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.FieldDecorator;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * validation of one page object, run on the first use of one of its elements
+ * <p>
+ * it runs on the thread using the element, because drivers are not thread-safe
+ */
+@Slf4j
+class DeferredValidation {
+    private PageObjectValidation pending;
+
+    /**
+     * replaces a not yet run validation
+     */
+    synchronized void arm(PageObjectValidation validation) {
+        pending = validation;
+    }
+
+    synchronized void runOnce() {
+        PageObjectValidation validation = pending;
+        if (validation != null) {
+            // reset first, the validation itself uses the elements
+            pending = null;
+            log.debug("run deferred validation");
+            validation.validate();
+        }
+    }
+
+    /**
+     * @return null if the page object was not initialized with a deferred validation
+     */
+    static DeferredValidation of(PageObject pageObject, PageObjectMetadata metadata) {
+        for (PageObjectMetadata.ValidatedField field : metadata.getValidatedFields()) {
+            try {
+                Object element = field.getField().get(pageObject);
+                if (element != null && Proxy.isProxyClass(element.getClass()) &&
+                        Proxy.getInvocationHandler(element) instanceof Handler) {
+                    return ((Handler) Proxy.getInvocationHandler(element)).getValidation();
+                }
+            } catch (IllegalAccessException e) {
+                log.debug(e.getMessage(), e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the element without running a pending validation on use, e.g. to check its presence
+     */
+    static WebElement withoutValidation(WebElement element) {
+        if (Proxy.isProxyClass(element.getClass()) && Proxy.getInvocationHandler(element) instanceof Handler) {
+            Handler handler = (Handler) Proxy.getInvocationHandler(element);
+            return (WebElement) Proxy.newProxyInstance(element.getClass().getClassLoader(),
+                                                       element.getClass().getInterfaces(),
+                                                       handler.getDelegate());
+        }
+        return element;
+    }
+
+    /**
+     * wraps the element proxies of the delegate
+     */
+    @RequiredArgsConstructor
+    static class Decorator implements FieldDecorator {
+        private final FieldDecorator     delegate;
+        private final DeferredValidation validation;
+
+        @Override
+        public Object decorate(ClassLoader loader, Field field) {
+            Object value = delegate.decorate(loader, field);
+            if (value == null || !Proxy.isProxyClass(value.getClass())) {
+                return value;
+            }
+            return Proxy.newProxyInstance(loader,
+                                          value.getClass().getInterfaces(),
+                                          new Handler(Proxy.getInvocationHandler(value), validation));
+        }
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    static class Handler implements InvocationHandler {
+        private final InvocationHandler  delegate;
+        private final DeferredValidation validation;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            validation.runOnce();
+            return delegate.invoke(proxy, method, args);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package de.lgohlke.selenium.pageobjects;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * state shared by all page objects of one driver: the stateless {@link PageObjectHelper}, the navigation state, the
+ * metrics sink, the executor of asynchronous operations and the failure listeners
+ * <p>
+ * the settings of a {@link PageFactoryHelper} (e.g. validation policy, batch validation or page cache) are not shared,
+ * each page object gets its own helper with the metrics sink and the executor of the context
+ * <p>
+ * a context lives as long as page objects of the driver (or other references to it) exist, the metrics sink, the
+ * executor, the implicit wait and the failure listeners registered through it live as long as the driver
+ */
+@Getter
+public final class DriverContext {
+    private static final ConcurrentMap<WebDriver, DriverContext> CONTEXTS = new MapMaker().weakKeys()
+                                                                                          .weakValues()
+                                                                                          .makeMap();
+    /**
+     * strongly referenced values must not refer to the driver, otherwise the weak keys are never collected
+     */
+    private static final ConcurrentMap<WebDriver, State>         STATES   = new MapMaker().weakKeys().makeMap();
+
+    /**
+     * shared by all contexts unless replaced, its daemon threads are started on demand
+     */
+    static final ScheduledExecutorService DEFAULT_ASYNC_EXECUTOR = Executors.newScheduledThreadPool(
+            Runtime.getRuntime().availableProcessors(),
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("pageobjects-async-%d").build());
+
+    private final WebDriver        driver;
+    private final PageObjectHelper pageObjectHelper;
+    @Getter(AccessLevel.NONE)
+    private final State            state;
+
+    private DriverContext(WebDriver driver, State state) {
+        this.driver = driver;
+        this.state = state;
+        pageObjectHelper = new PageObjectHelper(driver);
+    }
+
+    /**
+     * @param driver null gives an unshared context
+     */
+    public static DriverContext of(WebDriver driver) {
+        if (driver == null) {
+            return new DriverContext(null, new State());
+        }
+        return CONTEXTS.computeIfAbsent(driver, d -> new DriverContext(d, STATES.computeIfAbsent(d, k -> new State())));
+    }
+
+    /**
+     * a helper with its own settings, which initializes page objects with the metrics sink and the executor of this
+     * context
+     */
+    public PageFactoryHelper newPageFactoryHelper() {
+        PageFactoryHelper pageFactoryHelper = new PageFactoryHelper(driver);
+        pageFactoryHelper.setAsyncExecutor(state.asyncExecutor);
+        pageFactoryHelper.setMetrics(getMetrics());
+        return pageFactoryHelper;
+    }
+
+    /**
+     * runs {@link PageFactoryHelper#initElementsAsync(Class)} and polls {@link AbstractPageObject#waitForAsync}
+     */
+    public ScheduledExecutorService getAsyncExecutor() {
+        return state.asyncExecutor;
+    }
+
+    /**
+     * for the helpers created afterwards
+     */
+    public void setAsyncExecutor(@NonNull ScheduledExecutorService asyncExecutor) {
+        state.asyncExecutor = asyncExecutor;
+    }
+
+    public PageObjectMetrics getMetrics() {
+        PageObjectMetrics metrics = state.metrics;
+        return metrics == null ? PageFactoryHelper.DEFAULT_METRICS : metrics;
+    }
+
+    /**
+     * for the helpers created afterwards
+     */
+    public void setMetrics(@NonNull PageObjectMetrics metrics) {
+        state.metrics = metrics;
+    }
+
+    /**
+     * counts the webdriver commands of each init phase for the metrics and traces each command with a running
+     * {@link PageObjectTracer}; the command executor of the (unwrapped)
+     * {@link org.openqa.selenium.remote.RemoteWebDriver} is replaced by reflection for the lifetime of the driver,
+     * without it the commands are recorded as -1
+     *
+     * @return false if the commands of the driver can not be counted
+     */
+    public boolean countWireCommands() {
+        return WireCommandCounter.install(driver) != WireCommandCounter.UNSUPPORTED;
+    }
+
+    /**
+     * kept as long as the driver, a listener should not refer to the driver itself (it is passed on each failure)
+     */
+    public void addFailureListener(@NonNull PageObjectFailureListener listener) {
+        state.failureListeners.add(listener);
+    }
+
+    public void removeFailureListener(PageObjectFailureListener listener) {
+        state.failureListeners.remove(listener);
+    }
+
+    /**
+     * notifies the event listeners of an {@link org.openqa.selenium.support.events.EventFiringWebDriver} and the
+     * registered failure listeners
+     *
+     * @throws IllegalStateException wrapping the failure if there is no listener at all
+     */
+    void propagateFailure(Exception exception) {
+        if (!notifyFailure(exception)) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * @return false if there is no listener at all
+     */
+    boolean notifyFailure(Throwable failure) {
+        return FailurePropagation.propagate(driver, state.failureListeners, failure);
+    }
+
+    /**
+     * sets the implicit wait of the driver and remembers it, selenium can not tell it otherwise; presence checks which
+     * can not be answered by script then look up without waiting and restore it afterwards
+     */
+    public void setImplicitWait(long time, @NonNull TimeUnit unit) {
+        driver.manage().timeouts().implicitlyWait(time, unit);
+        state.implicitWaitMillis = unit.toMillis(time);
+    }
+
+    /**
+     * @return -1 if not set by {@link #setImplicitWait(long, TimeUnit)}
+     */
+    long getImplicitWaitMillis() {
+        return state.implicitWaitMillis;
+    }
+
+    /**
+     * forget the tracked url of the driver, needed after switching windows or frames
+     */
+    public void invalidateNavigationState() {
+        NavigationTracker.of(driver).invalidate();
+    }
+
+    /**
+     * remembers the current url and the DOM generation by the events of the driver until
+     * {@link #stopNavigationTracking()}, this saves most 'getCurrentUrl' requests of pages and lets a
+     * {@link CachingElementLocatorFactory} keep found elements
+     *
+     * @throws IllegalStateException if the driver is not an {@link EventFiringWebDriver}
+     */
+    public void startNavigationTracking() {
+        NavigationTracker.of(driver).register(eventFiringDriver());
+    }
+
+    public void stopNavigationTracking() {
+        NavigationTracker.of(driver).unregister(eventFiringDriver());
+    }
+
+    private EventFiringWebDriver eventFiringDriver() {
+        if (!(driver instanceof EventFiringWebDriver)) {
+            throw new IllegalStateException("navigations can only be tracked by an EventFiringWebDriver");
+        }
+        return (EventFiringWebDriver) driver;
+    }
+
+    /**
+     * the part of a context which survives it, without reference to the driver
+     */
+    private static class State {
+        private final    List<PageObjectFailureListener> failureListeners   = new CopyOnWriteArrayList<>();
+        private volatile ScheduledExecutorService        asyncExecutor      = DEFAULT_ASYNC_EXECUTOR;
+        private volatile PageObjectMetrics               metrics;
+        private volatile long                            implicitWaitMillis = -1;
+    }
+}
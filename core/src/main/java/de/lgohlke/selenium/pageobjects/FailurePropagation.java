@@ -0,0 +1,72 @@
+package de.lgohlke.selenium.pageobjects;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
+import org.openqa.selenium.support.events.WebDriverEventListener;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * dispatches failures to the event listeners of an {@link EventFiringWebDriver} and the
+ * {@link PageObjectFailureListener}s of the {@link DriverContext}
+ * <p>
+ * the private listener list of the driver is resolved once into a {@link MethodHandle}, so dispatching neither
+ * touches the accessibility of a shared {@link Field} nor allocates
+ */
+@Slf4j
+final class FailurePropagation {
+    /**
+     * null if the field is not accessible in this selenium version
+     */
+    private static final MethodHandle EVENT_LISTENERS = eventListenersGetter();
+
+    private FailurePropagation() {
+    }
+
+    /**
+     * @return false if nobody was notified
+     */
+    static boolean propagate(WebDriver driver, List<PageObjectFailureListener> failureListeners, Throwable exception) {
+        boolean notified = false;
+        if (driver instanceof EventFiringWebDriver && EVENT_LISTENERS != null) {
+            for (WebDriverEventListener listener : eventListeners((EventFiringWebDriver) driver)) {
+                listener.onException(exception, driver);
+            }
+            notified = true;
+        }
+        for (PageObjectFailureListener listener : failureListeners) {
+            listener.onFailure(exception, driver);
+            notified = true;
+        }
+        return notified;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<WebDriverEventListener> eventListeners(EventFiringWebDriver driver) {
+        try {
+            return (List<WebDriverEventListener>) EVENT_LISTENERS.invokeExact(driver);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MethodHandle eventListenersGetter() {
+        try {
+            Field field = EventFiringWebDriver.class.getDeclaredField("eventListeners");
+            field.setAccessible(true);
+            return MethodHandles.lookup()
+                                .unreflectGetter(field)
+                                .asType(MethodType.methodType(List.class, EventFiringWebDriver.class));
+        } catch (NoSuchFieldException | IllegalAccessException | RuntimeException e) {
+            log.error("can not access the event listeners of {}: {}", EventFiringWebDriver.class.getName(), e.getMessage(), e);
+            return null;
+        }
+    }
+}
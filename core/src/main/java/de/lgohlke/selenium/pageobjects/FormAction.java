@@ -0,0 +1,67 @@
+package de.lgohlke.selenium.pageobjects;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * what {@link PageObjectHelper#fill(java.util.Map)} does with an element
+ * <p>
+ * plain values are converted: a {@link CharSequence} sets the value, a {@link Boolean} sets the checked state
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class FormAction {
+    private static final FormAction CLICK = new FormAction(Type.CLICK, null);
+
+    private final Type   type;
+    private final Object value;
+
+    /**
+     * sets the value by script and fires input and change events
+     */
+    public static FormAction set(@NonNull CharSequence value) {
+        return new FormAction(Type.SET, value.toString());
+    }
+
+    /**
+     * clicks a checkbox or radio button if its checked state differs
+     */
+    public static FormAction check(boolean checked) {
+        return new FormAction(Type.CHECK, checked);
+    }
+
+    public static FormAction click() {
+        return CLICK;
+    }
+
+    /**
+     * clears and types with native {@link org.openqa.selenium.WebElement#sendKeys(CharSequence...)}, for fields which
+     * need real keyboard events
+     */
+    public static FormAction type(@NonNull CharSequence value) {
+        return new FormAction(Type.TYPE, value.toString());
+    }
+
+    static FormAction of(Object value) {
+        if (value instanceof FormAction) {
+            return (FormAction) value;
+        }
+        if (value instanceof CharSequence) {
+            return set((CharSequence) value);
+        }
+        if (value instanceof Boolean) {
+            return check((Boolean) value);
+        }
+        throw new IllegalArgumentException("no form action for " + value);
+    }
+
+    public enum Type {
+        SET, CHECK, CLICK, TYPE
+    }
+}
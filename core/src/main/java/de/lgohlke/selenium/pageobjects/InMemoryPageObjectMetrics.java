@@ -0,0 +1,180 @@
+package de.lgohlke.selenium.pageobjects;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * keeps histograms of the phase timings and webdriver commands per page object class, meant to be dumped at the end of a
+ * test run
+ * <pre>
+ *     InMemoryPageObjectMetrics metrics = new InMemoryPageObjectMetrics();
+ *     pageFactoryHelper.setMetrics(metrics);
+ *     ...
+ *     System.out.println(metrics.dump());
+ * </pre>
+ */
+public class InMemoryPageObjectMetrics implements PageObjectMetrics {
+    private final ConcurrentMap<Class<? extends PageObject>, Stats> stats = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordPhase(Class<? extends PageObject> type, Phase phase, long nanos, long commands) {
+        Stats s = stats(type);
+        s.nanos.get(phase).record(nanos);
+        if (commands >= 0) {
+            s.commands.get(phase).record(commands);
+        }
+    }
+
+    @Override
+    public void recordValidationFailures(Class<? extends PageObject> type, int failures) {
+        stats(type).validationFailures.add(failures);
+    }
+
+    private Stats stats(Class<? extends PageObject> type) {
+        return stats.computeIfAbsent(type, t -> new Stats());
+    }
+
+    /**
+     * @return histogram of the nanoseconds spent in the phase, empty if never recorded
+     */
+    public Histogram getNanos(Class<? extends PageObject> type, Phase phase) {
+        Stats s = stats.get(type);
+        return s == null ? new Histogram() : s.nanos.get(phase);
+    }
+
+    /**
+     * @return histogram of the webdriver commands sent in the phase, empty if never recorded
+     */
+    public Histogram getCommands(Class<? extends PageObject> type, Phase phase) {
+        Stats s = stats.get(type);
+        return s == null ? new Histogram() : s.commands.get(phase);
+    }
+
+    public long getValidationFailures(Class<? extends PageObject> type) {
+        Stats s = stats.get(type);
+        return s == null ? 0 : s.validationFailures.sum();
+    }
+
+    public void reset() {
+        stats.clear();
+    }
+
+    /**
+     * one line per page object class and phase, most expensive classes first
+     */
+    public String dump() {
+        StringBuilder buffer = new StringBuilder();
+        buffer.append(String.format("%-40s %-13s %8s %10s %10s %10s %10s %9s%n",
+                                    "page object", "phase", "count", "mean ms", "p50 ms", "p99 ms", "max ms", "commands"));
+        stats.entrySet()
+             .stream()
+             .sorted(Comparator.comparingLong((Map.Entry<Class<? extends PageObject>, Stats> e) -> e.getValue()
+                                                                                                   .totalNanos())
+                               .reversed())
+             .forEach(e -> {
+                 String name = e.getKey().getName();
+                 e.getValue().nanos.forEach((phase, histogram) -> {
+                     if (histogram.getCount() > 0) {
+                         Histogram commands = e.getValue().commands.get(phase);
+                         buffer.append(String.format("%-40s %-13s %8d %10.3f %10.3f %10.3f %10.3f %9s%n",
+                                                     name,
+                                                     phase,
+                                                     histogram.getCount(),
+                                                     millis(histogram.getMean()),
+                                                     millis(histogram.getPercentile(50)),
+                                                     millis(histogram.getPercentile(99)),
+                                                     millis(histogram.getMax()),
+                                                     commands.getCount() > 0 ? String.format("%.1f", commands.getMean()) : "-"));
+                     }
+                 });
+                 long failures = e.getValue().validationFailures.sum();
+                 if (failures > 0) {
+                     buffer.append(String.format("%-40s %d validation failures%n", name, failures));
+                 }
+             });
+        return buffer.toString();
+    }
+
+    private static double millis(double nanos) {
+        return nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static class Stats {
+        private final Map<Phase, Histogram> nanos              = histograms();
+        private final Map<Phase, Histogram> commands           = histograms();
+        private final LongAdder             validationFailures = new LongAdder();
+
+        private static Map<Phase, Histogram> histograms() {
+            Map<Phase, Histogram> histograms = new EnumMap<>(Phase.class);
+            for (Phase phase : Phase.values()) {
+                histograms.put(phase, new Histogram());
+            }
+            return histograms;
+        }
+
+        private long totalNanos() {
+            return nanos.values().stream().mapToLong(Histogram::getSum).sum();
+        }
+    }
+
+    /**
+     * lock-free histogram with power of two buckets, percentiles are the upper bound of the bucket
+     */
+    public static class Histogram {
+        private final AtomicLongArray buckets = new AtomicLongArray(64);
+        private final LongAdder       count   = new LongAdder();
+        private final LongAdder       sum     = new LongAdder();
+        private final LongAccumulator max     = new LongAccumulator(Math::max, 0);
+
+        void record(long value) {
+            long v = Math.max(0, value);
+            buckets.incrementAndGet(v == 0 ? 0 : 63 - Long.numberOfLeadingZeros(v));
+            count.increment();
+            sum.add(v);
+            max.accumulate(v);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getSum() {
+            return sum.sum();
+        }
+
+        public long getMax() {
+            return max.get();
+        }
+
+        public double getMean() {
+            long c = getCount();
+            return c == 0 ? 0 : (double) getSum() / c;
+        }
+
+        /**
+         * @param percentile between 0 and 100
+         */
+        public long getPercentile(double percentile) {
+            long c = getCount();
+            if (c == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(c * percentile / 100);
+            long seen = 0;
+            for (int i = 0; i < buckets.length(); i++) {
+                seen += buckets.get(i);
+                if (seen >= rank) {
+                    return Math.min(getMax(), i == 63 ? Long.MAX_VALUE : (1L << (i + 1)) - 1);
+                }
+            }
+            return getMax();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package de.lgohlke.selenium.pageobjects;
+
+import java.util.function.Supplier;
+
+/**
+ * handle of a nested page object, which runs the whole init lifecycle (navigation, nested page objects,
+ * 'beforeInit' and validation) on first {@link #get()}
+ * <p>
+ * fields of this type are filled lazily by {@link PageFactoryHelper}, unless annotated with
+ * {@link ValidatePageObjectOnInit}
+ *
+ * <pre>
+ *     private LazyPageObject&lt;SettingsDialog&gt; settings;
+ *
+ *     public void openSettings() {
+ *         settings.get().open();
+ *     }
+ * </pre>
+ */
+public final class LazyPageObject<T extends PageObject> {
+    private Supplier<T> initializer;
+    private T           pageObject;
+
+    LazyPageObject(Supplier<T> initializer) {
+        this.initializer = initializer;
+    }
+
+    static <T extends PageObject> LazyPageObject<T> initialized(T pageObject) {
+        LazyPageObject<T> reference = new LazyPageObject<>(null);
+        reference.pageObject = pageObject;
+        return reference;
+    }
+
+    public synchronized T get() {
+        if (pageObject == null) {
+            pageObject = initializer.get();
+            initializer = null;
+        }
+        return pageObject;
+    }
+
+    public synchronized boolean isInitialized() {
+        return pageObject != null;
+    }
+}
@@ -0,0 +1,190 @@
+package de.lgohlke.selenium.pageobjects;
+
+import com.google.common.collect.MapMaker;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.AbstractWebDriverEventListener;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * remembers the current url of a driver as long as no navigation could have happened
+ * <p>
+ * only an {@link EventFiringWebDriver} tells about navigations (navigate, click, change value, scripts), tracking is
+ * opt-in with {@link #register(EventFiringWebDriver)}; otherwise the url is requested every time; submits and
+ * redirects by scripts are not told, so a tracked url only saves the request when a navigation is needed anyway
+ * <p>
+ * switching windows or frames is not observable, call {@link #invalidate()} afterwards
+ */
+@Slf4j
+class NavigationTracker extends AbstractWebDriverEventListener {
+    private static final ConcurrentMap<WebDriver, NavigationTracker> TRACKERS          = new MapMaker().weakKeys()
+                                                                                                     .makeMap();
+    private static final int                                         RESOLVED_MAX_SIZE = 256;
+    private static final Map<List<String>, String>                   RESOLVED          = Collections.synchronizedMap(
+            new LinkedHashMap<List<String>, String>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<List<String>, String> eldest) {
+                    return size() > RESOLVED_MAX_SIZE;
+                }
+            });
+
+    private final    AtomicLong generation = new AtomicLong();
+    private volatile boolean    tracking;
+    private volatile String     currentUrl;
+
+    static NavigationTracker of(WebDriver driver) {
+        return TRACKERS.computeIfAbsent(driver, d -> new NavigationTracker());
+    }
+
+    /**
+     * listens to the events of the driver until {@link #unregister(EventFiringWebDriver)}
+     */
+    synchronized void register(EventFiringWebDriver driver) {
+        if (!tracking) {
+            driver.register(this);
+            tracking = true;
+            invalidate();
+        }
+    }
+
+    synchronized void unregister(EventFiringWebDriver driver) {
+        if (tracking) {
+            driver.unregister(this);
+            tracking = false;
+            invalidate();
+        }
+    }
+
+    boolean isTracking() {
+        return tracking;
+    }
+
+    /**
+     * @param location of the page to navigate to, a tracked url already there is requested again
+     */
+    String getCurrentUrl(WebDriver driver, String location) {
+        String url = currentUrl;
+        if (url != null && !resolve(url, location).equals(url)) {
+            log.debug("use tracked url {}", url);
+            return url;
+        }
+        url = driver.getCurrentUrl();
+        if (tracking) {
+            currentUrl = url;
+        }
+        return url;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the base is not a valid {@link URI}
+     */
+    static String resolve(String base, String location) {
+        List<String> key      = Arrays.asList(base, location);
+        String       resolved = RESOLVED.get(key);
+        if (resolved == null) {
+            try {
+                resolved = new URI(base).resolve(location).toString();
+            } catch (URISyntaxException e) {
+                throw new IllegalArgumentException(e);
+            }
+            RESOLVED.put(key, resolved);
+        }
+        return resolved;
+    }
+
+    void invalidate() {
+        currentUrl = null;
+        generation.incrementAndGet();
+    }
+
+    /**
+     * changes with every navigation, click, value change or script that could have modified the DOM
+     */
+    long getGeneration() {
+        return generation.get();
+    }
+
+    @Override
+    public void beforeNavigateTo(String url, WebDriver driver) {
+        invalidate();
+    }
+
+    @Override
+    public void afterNavigateTo(String url, WebDriver driver) {
+        invalidate();
+    }
+
+    @Override
+    public void beforeNavigateBack(WebDriver driver) {
+        invalidate();
+    }
+
+    @Override
+    public void afterNavigateBack(WebDriver driver) {
+        invalidate();
+    }
+
+    @Override
+    public void beforeNavigateForward(WebDriver driver) {
+        invalidate();
+    }
+
+    @Override
+    public void afterNavigateForward(WebDriver driver) {
+        invalidate();
+    }
+
+    @Override
+    public void beforeClickOn(WebElement element, WebDriver driver) {
+        invalidate();
+    }
+
+    @Override
+    public void afterClickOn(WebElement element, WebDriver driver) {
+        invalidate();
+    }
+
+    @Override
+    public void beforeChangeValueOf(WebElement element, WebDriver driver) {
+        invalidate();
+    }
+
+    @Override
+    public void afterChangeValueOf(WebElement element, WebDriver driver) {
+        invalidate();
+    }
+
+    @Override
+    public void beforeScript(String script, WebDriver driver) {
+        if (!isReadOnly(script)) {
+            invalidate();
+        }
+    }
+
+    @Override
+    public void afterScript(String script, WebDriver driver) {
+        if (!isReadOnly(script)) {
+            invalidate();
+        }
+    }
+
+    @Override
+    public void onException(Throwable throwable, WebDriver driver) {
+        invalidate();
+    }
+
+    private static boolean isReadOnly(String script) {
+        return ScriptLocator.COUNT_SCRIPT.equals(script);
+    }
+}
@@ -0,0 +1,739 @@
+package de.lgohlke.selenium.pageobjects;
+
+import de.lgohlke.selenium.pageobjects.PageObjectMetadata.ComponentList;
+import de.lgohlke.selenium.pageobjects.PageObjectMetadata.NestedField;
+import de.lgohlke.selenium.pageobjects.PageObjectMetrics.Phase;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
+import org.openqa.selenium.support.pagefactory.FieldDecorator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@RequiredArgsConstructor
+public class PageFactoryHelper {
+    static final PageObjectMetrics DEFAULT_METRICS = PageObjectMetrics.loadDefault();
+
+    private final WebDriver          driver;
+    private       WireCommandCounter commandCounter;
+    /**
+     * validate all {@link ValidatePageObjectOnInit} fields of a page object tree with one script,
+     * drivers without javascript support are always validated element by element
+     * <p>
+     * opt-in: the script does not wait the implicit wait of the driver for elements rendered late, which the validation
+     * element by element does
+     */
+    @Setter
+    private boolean               batchValidation;
+    /**
+     * receives the timings of all page objects initialized by this helper, when enabled the commands of a
+     * {@link org.openqa.selenium.remote.RemoteWebDriver} are counted too
+     */
+    @Getter
+    @Setter
+    @NonNull
+    private PageObjectMetrics     metrics         = DEFAULT_METRICS;
+    /**
+     * locates the {@link org.openqa.selenium.support.FindBy} fields, null means the default of {@link PageFactory}
+     *
+     * @see CachingElementLocatorFactory
+     */
+    @Setter
+    private ElementLocatorFactory elementLocatorFactory;
+    /**
+     * runs {@link #initElementsAsync(Class)}
+     */
+    @Setter
+    @NonNull
+    private Executor              asyncExecutor   = DriverContext.DEFAULT_ASYNC_EXECUTOR;
+    /**
+     * for all page object classes without an own policy
+     *
+     * @see #setValidationPolicy(Class, ValidationPolicy)
+     */
+    @Getter
+    @Setter
+    @NonNull
+    private ValidationPolicy      validationPolicy = ValidationPolicy.FULL;
+
+    private final Map<Class<?>, PageObject>                 pageCache          = new LinkedHashMap<>(16, 0.75f, true);
+    private       int                                       pageCacheSize      = 0;
+    private final ConcurrentMap<Class<?>, ValidationPolicy> validationPolicies = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, AtomicLong>       validationSamples  = new ConcurrentHashMap<>();
+
+    private static <T extends PageObject> void navigateToLocationIfPage(WebDriver driver, T pageObject) {
+        if (pageObject instanceof Page) {
+            String location = ((Page) pageObject).getLocation();
+            if ( location.isEmpty()){
+                return;
+            }
+
+            NavigationTracker tracker            = NavigationTracker.of(driver);
+            String            currentUrl         = tracker.getCurrentUrl(driver, location);
+            String            normalizedLocation = NavigationTracker.resolve(currentUrl, location);
+
+            log.debug("current location of {} is {}", pageObject, currentUrl);
+            if (!currentUrl.equals(normalizedLocation)) {
+                log.debug("try to get needed location: {}", normalizedLocation);
+                driver.get(normalizedLocation);
+                tracker.invalidate();
+                if (log.isTraceEnabled()) {
+                    trace("navigate", "type", pageObject.getClass().getSimpleName(), "from", currentUrl, "to", normalizedLocation);
+                }
+            }
+        }
+    }
+
+    /**
+     * validation runs anyway if the page is not ready in time, it reports the missing elements
+     */
+    private void awaitReadiness(PageObject pageObject, PageObjectMetadata metadata) {
+        AwaitPageReady readiness = metadata.getReadiness();
+        if (readiness == null) {
+            return;
+        }
+        Class<? extends PageObject> clazz    = pageObject.getClass();
+        long                        nanos    = startNanos();
+        long                        commands = startCommands();
+        long                        started  = log.isTraceEnabled() ? System.nanoTime() : 0;
+        String                      unmet    = PageReadiness.await(driver, readiness);
+        recordPhase(clazz, Phase.READINESS, nanos, commands);
+        if (unmet != null) {
+            log.warn("{} not ready after {} ms: {}", clazz.getSimpleName(), readiness.timeoutMillis(), unmet);
+        }
+        if (started != 0) {
+            trace("ready", "type", clazz.getSimpleName(), "ready", unmet == null, "micros", micros(started));
+        }
+    }
+
+    /**
+     * @param policy null falls back to the policy of this helper
+     */
+    public void setValidationPolicy(Class<? extends PageObject> clazz, ValidationPolicy policy) {
+        if (policy == null) {
+            validationPolicies.remove(clazz);
+        } else {
+            validationPolicies.put(clazz, policy);
+        }
+    }
+
+    public ValidationPolicy getValidationPolicy(Class<? extends PageObject> clazz) {
+        ValidationPolicy policy = validationPolicies.get(clazz);
+        return policy == null ? validationPolicy : policy;
+    }
+
+    /**
+     * FULL and SAMPLED page objects are validated with the whole tree, DEFERRED page objects on first use
+     *
+     * @param flat the component lists are not populated and not validated
+     */
+    private void addValidation(PageObject pageObject,
+                               PageObjectMetadata metadata,
+                               DeferredValidation deferred,
+                               WebElement root,
+                               boolean flat,
+                               InitScope scope) {
+        if (metadata.getValidatedFields().isEmpty()) {
+            return;
+        }
+        Class<? extends PageObject> clazz  = pageObject.getClass();
+        ValidationPolicy            policy = getValidationPolicy(clazz);
+        switch (policy.getMode()) {
+            case FULL:
+                scope.getValidation().add(pageObject, metadata, root, flat);
+                break;
+            case SAMPLED:
+                long init = validationSamples.computeIfAbsent(clazz, c -> new AtomicLong()).getAndIncrement();
+                if (init % policy.getSampleRate() == 0) {
+                    scope.getValidation().add(pageObject, metadata, root, flat);
+                }
+                break;
+            case DEFERRED:
+                if (deferred == null) {
+                    // created before the policy was changed
+                    scope.getValidation().add(pageObject, metadata, root, flat);
+                } else {
+                    PageObjectValidation validation = new PageObjectValidation(driver, batchValidation, metrics);
+                    validation.add(pageObject, metadata, root, flat);
+                    deferred.arm(validation);
+                }
+                break;
+            case OFF:
+            default:
+                break;
+        }
+    }
+
+    /**
+     * forget the tracked url of the driver, needed after switching windows or frames
+     */
+    public void invalidateNavigationState() {
+        NavigationTracker.of(driver).invalidate();
+    }
+
+    private <T extends PageObject> void initPageObjectFields(T pageObject,
+                                                             PageObjectMetadata metadata,
+                                                             InitScope scope) {
+        List<NestedField> fields = metadata.getNestedPageObjectFields();
+        if (fields.isEmpty()) {
+            return;
+        }
+        if (log.isDebugEnabled()) {
+            StringBuilder fieldList = new StringBuilder();
+            for (NestedField field : fields) {
+                fieldList.append("\n - ").append(field.getType().getSimpleName()).append(' ').append(field.getField().getName());
+            }
+            log.debug("initialize fields: {}", fieldList);
+        }
+        // indexed, this runs for every page object of the tree
+        for (int i = 0; i < fields.size(); i++) {
+            initPageObjectField(pageObject, fields.get(i), scope);
+        }
+    }
+
+    /**
+     * one lookup of the root elements per list, the elements of each component are located within its root
+     * <p>
+     * components are not navigated to, their nested page object fields are located in the document
+     */
+    private void initComponentLists(PageObject pageObject,
+                                    PageObjectMetadata metadata,
+                                    SearchContext searchContext,
+                                    InitScope scope) {
+        for (ComponentList list : metadata.getComponentLists()) {
+            List<WebElement> roots      = searchContext.findElements(list.getBy());
+            List<PageObject> components = new ArrayList<>(roots.size());
+            for (WebElement root : roots) {
+                components.add(initComponent(list.getType(), root, scope));
+            }
+            log.debug("built {} components of {}", components.size(), list.getField());
+            try {
+                list.getField().set(pageObject, Collections.unmodifiableList(components));
+            } catch (IllegalAccessException e) {
+                log.error(e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * the type is pushed for the cycle check of its nested page object fields, lists of components are bounded by the
+     * document and may nest the same type
+     */
+    private PageObject initComponent(Class<? extends PageObject> type, WebElement root, InitScope scope) {
+        PageObjectMetadata metadata = PageObjectMetadata.of(type);
+        DeferredValidation deferred = getValidationPolicy(type).getMode() == ValidationPolicy.Mode.DEFERRED &&
+                !metadata.getValidatedFields().isEmpty() ? new DeferredValidation() : null;
+
+        scope.push(type);
+        try {
+            PageObject component = instantiate(type);
+            PageFactory.initElements(fieldDecorator(root, deferred), component);
+            initPageObjectFields(component, metadata, scope);
+            initComponentLists(component, metadata, root, scope);
+            component.beforeInit();
+            addValidation(component, metadata, deferred, root, false, scope);
+            return component;
+        } finally {
+            scope.pop();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void initPageObjectField(PageObject pageObject, NestedField nestedField, InitScope scope) {
+        Class<PageObject> type  = (Class<PageObject>) nestedField.getType();
+        Object            value;
+        if (nestedField.isLazy()) {
+            log.debug("defer initialization of {} until first use", nestedField.getField());
+            value = new LazyPageObject<>(() -> initElements(type));
+        } else {
+            scope.enter(nestedField);
+            PageObject nestedPO;
+            try {
+                nestedPO = initElements(type, false, scope);
+            } finally {
+                scope.leave();
+            }
+            value = nestedField.isReference() ? LazyPageObject.initialized(nestedPO) : nestedPO;
+        }
+        try {
+            nestedField.set(pageObject, value);
+        } catch (IllegalAccessException e) {
+            log.error(e.getMessage(), e);
+        }
+    }
+
+    public <T extends PageObject> T initElements(Class<T> clazz) {
+        return initElements(clazz, false);
+    }
+
+    /**
+     * {@link #initElements(Class)} on the async executor, a cancelled future is not initialized if it did not start yet
+     * <p>
+     * failures complete the future exceptionally and are passed to the failure listeners of the {@link DriverContext}
+     */
+    public <T extends PageObject> CompletableFuture<T> initElementsAsync(Class<T> clazz) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        asyncExecutor.execute(() -> {
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                future.complete(initElements(clazz));
+            } catch (Throwable e) {
+                try {
+                    DriverContext.of(driver).notifyFailure(e);
+                } finally {
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+        return future;
+    }
+
+    /**
+     * reuses a cached instance of the class (see {@link #setPageCacheSize(int)}), which is re-initialized in place
+     */
+    public <T extends PageObject> T getOrInitElements(Class<T> clazz) {
+        T pageObject = null;
+        synchronized (pageCache) {
+            PageObject cached = pageCache.remove(clazz);
+            if (cached != null) {
+                pageObject = clazz.cast(cached);
+            }
+        }
+        if (pageObject == null) {
+            pageObject = initElements(clazz);
+        } else {
+            log.debug("reuse cached {}", clazz);
+            reinitElements(pageObject);
+        }
+        synchronized (pageCache) {
+            pageCache.put(clazz, pageObject);
+            evictPages();
+        }
+        return pageObject;
+    }
+
+    /**
+     * number of page object instances kept for {@link #getOrInitElements(Class)}, least recently used are evicted
+     *
+     * @param size 0 disables the cache
+     */
+    public void setPageCacheSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size needs to be positive: " + size);
+        }
+        synchronized (pageCache) {
+            pageCacheSize = size;
+            evictPages();
+        }
+    }
+
+    private void evictPages() {
+        Iterator<?> leastRecentlyUsed = pageCache.keySet().iterator();
+        while (pageCache.size() > pageCacheSize) {
+            leastRecentlyUsed.next();
+            leastRecentlyUsed.remove();
+        }
+    }
+
+    /**
+     * runs the init lifecycle again on an existing page object without creating new element proxies: navigation,
+     * 'beforeInit' and validation of the page object and all its initialized nested page objects
+     * <p>
+     * nested page object fields which are still empty are initialized
+     */
+    public <T extends PageObject> T reinitElements(T pageObject) {
+        long      traceStart = log.isTraceEnabled() ? System.nanoTime() : 0;
+        InitScope scope      = new InitScope();
+        reinitElements(pageObject, scope);
+
+        long nanos    = startNanos();
+        long commands = startCommands();
+        try {
+            scope.validate();
+        } finally {
+            recordPhase(pageObject.getClass(), Phase.VALIDATION, nanos, commands);
+        }
+        if (traceStart != 0) {
+            trace("reinit", "type", pageObject.getClass().getSimpleName(), "pageObjects", scope.visitedPageObjects(),
+                  "validatedFields", scope.validatedFields(), "micros", micros(traceStart));
+        }
+        return pageObject;
+    }
+
+    private void reinitElements(PageObject pageObject, InitScope scope) {
+        if (!scope.visit(pageObject)) {
+            return;
+        }
+        Class<? extends PageObject> clazz    = pageObject.getClass();
+        PageObjectMetadata          metadata = PageObjectMetadata.of(clazz);
+        if (metadata.isPage()) {
+            long nanos    = startNanos();
+            long commands = startCommands();
+            navigateToLocationIfPage(driver, pageObject);
+            recordPhase(clazz, Phase.NAVIGATION, nanos, commands);
+            awaitReadiness(pageObject, metadata);
+        }
+
+        long nanos    = startNanos();
+        long commands = startCommands();
+        for (NestedField nestedField : metadata.getNestedPageObjectFields()) {
+            Object value;
+            try {
+                value = nestedField.get(pageObject);
+            } catch (IllegalAccessException e) {
+                log.error(e.getMessage(), e);
+                continue;
+            }
+            if (value == null) {
+                initPageObjectField(pageObject, nestedField, scope);
+            } else if (value instanceof LazyPageObject) {
+                LazyPageObject<?> reference = (LazyPageObject<?>) value;
+                if (reference.isInitialized()) {
+                    reinitElements(reference.get(), scope);
+                }
+            } else {
+                reinitElements((PageObject) value, scope);
+            }
+        }
+        initComponentLists(pageObject, metadata, driver, scope);
+        recordPhase(clazz, Phase.NESTED_INIT, nanos, commands);
+
+        if (log.isDebugEnabled()) {
+            log.debug("call 'beforeInit' on {}@{}", clazz.getSimpleName(), pageObject.hashCode());
+        }
+        nanos = startNanos();
+        commands = startCommands();
+        pageObject.beforeInit();
+        recordPhase(clazz, Phase.BEFORE_INIT, nanos, commands);
+        addValidation(pageObject, metadata, DeferredValidation.of(pageObject, metadata), null, false, scope);
+    }
+
+    /**
+     * validation of the page object and all its nested page objects is done in one pass at the end,
+     * after all 'beforeInit' calls (nested page objects first)
+     */
+    public <T extends PageObject> T initElements(Class<T> clazz, boolean flat) {
+        long      traceStart = log.isTraceEnabled() ? System.nanoTime() : 0;
+        InitScope scope      = new InitScope();
+        T         pageObject = initElements(clazz, flat, scope);
+
+        long nanos    = startNanos();
+        long commands = startCommands();
+        try {
+            scope.validate();
+        } finally {
+            recordPhase(clazz, Phase.VALIDATION, nanos, commands);
+        }
+        if (traceStart != 0) {
+            trace("validate", "type", clazz.getSimpleName(), "validatedFields", scope.validatedFields(),
+                  "micros", micros(traceStart));
+        }
+        return pageObject;
+    }
+
+    /**
+     * @throws IllegalStateException on cyclic references
+     */
+    private <T extends PageObject> T initElements(Class<T> clazz, boolean flat, InitScope scope) {
+        if (scope.isInitializing(clazz)) {
+            StringBuilder path = new StringBuilder();
+            for (NestedField field : scope.getPath()) {
+                path.append(field.getField().getDeclaringClass().getSimpleName())
+                    .append('.')
+                    .append(field.getField().getName())
+                    .append(" -> ");
+            }
+            throw new IllegalStateException("cyclic page object reference " + path + clazz.getSimpleName() +
+                                                    ", use a LazyPageObject to break the cycle");
+        }
+        PageObjectMetadata metadata = PageObjectMetadata.of(clazz);
+        PageObject         shared   = metadata.isShared() ? scope.getShared(clazz) : null;
+        if (shared != null) {
+            log.debug("reuse shared {}", clazz);
+            return clazz.cast(shared);
+        }
+
+        // a page object without nested fields can not be part of a cycle
+        boolean nesting = !flat && (!metadata.getNestedPageObjectFields().isEmpty()
+                || !metadata.getComponentLists().isEmpty());
+        if (nesting) {
+            scope.push(clazz);
+        }
+        try {
+            T pageObject = initElements(clazz, flat, metadata, scope);
+            if (metadata.isShared()) {
+                scope.putShared(clazz, pageObject);
+            }
+            return pageObject;
+        } finally {
+            if (nesting) {
+                scope.pop();
+            }
+        }
+    }
+
+    private <T extends PageObject> T initElements(Class<T> clazz,
+                                                  boolean flat,
+                                                  PageObjectMetadata metadata,
+                                                  InitScope scope) {
+        boolean            deferValidation = getValidationPolicy(clazz).getMode() == ValidationPolicy.Mode.DEFERRED &&
+                !metadata.getValidatedFields().isEmpty();
+        DeferredValidation deferred        = deferValidation ? new DeferredValidation() : null;
+
+        long started    = startNanos();
+        long traceStart = log.isTraceEnabled() ? System.nanoTime() : 0;
+        long nanos      = started;
+        long commands   = startCommands();
+        T    pageObject = initDirectDeclaredElements(clazz, deferred);
+        recordPhase(clazz, Phase.INIT_ELEMENTS, nanos, commands);
+
+        if (metadata.isPage()) {
+            nanos = startNanos();
+            commands = startCommands();
+            navigateToLocationIfPage(driver, pageObject);
+            recordPhase(clazz, Phase.NAVIGATION, nanos, commands);
+            awaitReadiness(pageObject, metadata);
+        }
+
+        if (!flat) {
+            nanos = startNanos();
+            commands = startCommands();
+            initPageObjectFields(pageObject, metadata, scope);
+            initComponentLists(pageObject, metadata, driver, scope);
+            recordPhase(clazz, Phase.NESTED_INIT, nanos, commands);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("call 'beforeInit' on {}@{}", pageObject.getClass().getSimpleName(), pageObject.hashCode());
+        }
+        nanos = startNanos();
+        commands = startCommands();
+        pageObject.beforeInit();
+        recordPhase(clazz, Phase.BEFORE_INIT, nanos, commands);
+        addValidation(pageObject, metadata, deferred, null, flat, scope);
+
+        if (traceStart != 0) {
+            trace("init", "type", clazz.getSimpleName(), "flat", flat,
+                  "nestedFields", flat ? 0 : metadata.getNestedPageObjectFields().size(),
+                  "validatedFields", metadata.getValidatedFields().size(), "micros", micros(traceStart));
+        }
+
+        PageObjectTracer tracer = PageObjectTracer.active();
+        if (tracer != null && started != 0) {
+            tracer.record("initElements " + clazz.getSimpleName(), "pageobject", started);
+        }
+        return pageObject;
+    }
+
+    /**
+     * @param deferred null if the validation is not deferred
+     */
+    private <T extends PageObject> T initDirectDeclaredElements(Class<T> clazz, DeferredValidation deferred) {
+        log.debug("### indirect initialize {}", clazz);
+        T pageObject = instantiate(clazz);
+        PageFactory.initElements(fieldDecorator(null, deferred), pageObject);
+        return pageObject;
+    }
+
+    /**
+     * a configured {@link ElementLocatorFactory} other than {@link CachingElementLocatorFactory} can not be scoped to
+     * the root of a component, those fields are located by the default lookup of a {@link ScriptableElementLocator}
+     *
+     * @param root     the fields are located within, null for the document
+     * @param deferred null if the validation is not deferred
+     */
+    private FieldDecorator fieldDecorator(WebElement root, DeferredValidation deferred) {
+        FieldDecorator decorator;
+        if (elementLocatorFactory instanceof CachingElementLocatorFactory) {
+            CachingElementLocatorFactory factory = (CachingElementLocatorFactory) elementLocatorFactory;
+            decorator = new CachingFieldDecorator(root == null ? factory : factory.within(root));
+        } else if (elementLocatorFactory != null && root == null) {
+            decorator = new CachingFieldDecorator(elementLocatorFactory);
+        } else {
+            SearchContext searchContext = root == null ? driver : root;
+            decorator = new CachingFieldDecorator(field -> new ScriptableElementLocator(searchContext, field));
+        }
+        if (deferred != null) {
+            decorator = new DeferredValidation.Decorator(decorator, deferred);
+        }
+        return decorator;
+    }
+
+    /**
+     * same as {@link PageFactory}: a constructor taking the driver or the default constructor
+     */
+    private <T extends PageObject> T instantiate(Class<T> clazz) {
+        try {
+            try {
+                return clazz.getConstructor(WebDriver.class).newInstance(driver);
+            } catch (NoSuchMethodException e) {
+                return clazz.getDeclaredConstructor().newInstance();
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * structured trace line (event=init type=LoginPage ...) for log processing, only call if trace is enabled
+     */
+    private static void trace(String event, Object... keyValues) {
+        StringBuilder line = new StringBuilder("event=").append(event);
+        for (int i = 0; i + 1 < keyValues.length; i += 2) {
+            line.append(' ').append(keyValues[i]).append('=').append(keyValues[i + 1]);
+        }
+        log.trace(line.toString());
+    }
+
+    private static long micros(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+    }
+
+    private long startNanos() {
+        return metrics.isEnabled() || PageObjectTracer.active() != null ? System.nanoTime() : 0;
+    }
+
+    private long startCommands() {
+        if (!metrics.isEnabled() && PageObjectTracer.active() == null) {
+            return 0;
+        }
+        if (commandCounter == null || commandCounter == WireCommandCounter.UNSUPPORTED) {
+            // counting may be turned on later
+            commandCounter = WireCommandCounter.of(driver);
+        }
+        return commandCounter.get();
+    }
+
+    private void recordPhase(Class<? extends PageObject> clazz, Phase phase, long startNanos, long startCommands) {
+        if (startNanos == 0) {
+            return;
+        }
+        PageObjectTracer tracer = PageObjectTracer.active();
+        if (tracer != null) {
+            tracer.record(clazz.getSimpleName() + " " + phase, "pageobject", startNanos);
+        }
+        if (metrics.isEnabled()) {
+            long nanos    = System.nanoTime() - startNanos;
+            long commands = startCommands < 0 || commandCounter == null ? -1 : commandCounter.get() - startCommands;
+            metrics.recordPhase(clazz, phase, nanos, commands);
+        }
+    }
+
+    /**
+     * state of one init tree: the validation, the shared page objects and the nested fields leading to the current
+     * page object
+     * <p>
+     * allocated on first use, the init of a page object without nested, shared or validated fields allocates none of it
+     */
+    private final class InitScope {
+        private PageObjectValidation      validation;
+        private Map<Class<?>, PageObject> shared;
+        private Set<PageObject>           visited;
+        private Deque<Class<?>>           types;
+        /**
+         * nested fields leading to the current page object, rendered only to report a cycle
+         */
+        private Deque<NestedField>        path;
+
+        PageObjectValidation getValidation() {
+            if (validation == null) {
+                validation = new PageObjectValidation(driver, batchValidation, metrics);
+            }
+            return validation;
+        }
+
+        void validate() {
+            if (validation != null) {
+                validation.validate();
+            }
+        }
+
+        int validatedFields() {
+            return validation == null ? 0 : validation.size();
+        }
+
+        /**
+         * @return null if there is no shared instance of the type yet
+         */
+        PageObject getShared(Class<?> type) {
+            return shared == null ? null : shared.get(type);
+        }
+
+        void putShared(Class<?> type, PageObject pageObject) {
+            if (shared == null) {
+                shared = new HashMap<>();
+            }
+            shared.put(type, pageObject);
+        }
+
+        /**
+         * @return false if the page object was visited before
+         */
+        boolean visit(PageObject pageObject) {
+            if (visited == null) {
+                visited = Collections.newSetFromMap(new IdentityHashMap<>());
+            }
+            return visited.add(pageObject);
+        }
+
+        int visitedPageObjects() {
+            return visited == null ? 0 : visited.size();
+        }
+
+        boolean isInitializing(Class<?> type) {
+            return types != null && types.contains(type);
+        }
+
+        void push(Class<?> type) {
+            if (types == null) {
+                types = new ArrayDeque<>();
+            }
+            types.push(type);
+        }
+
+        void pop() {
+            types.pop();
+        }
+
+        void enter(NestedField field) {
+            if (path == null) {
+                path = new ArrayDeque<>();
+            }
+            path.addLast(field);
+        }
+
+        void leave() {
+            path.removeLast();
+        }
+
+        Iterable<NestedField> getPath() {
+            return path == null ? Collections.emptyList() : path;
+        }
+    }
+}
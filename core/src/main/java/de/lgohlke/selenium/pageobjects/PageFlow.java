@@ -0,0 +1,9 @@
+package de.lgohlke.selenium.pageobjects;
+
+/**
+ * steps through pages with the driver of a {@link SessionScheduler} session
+ */
+@FunctionalInterface
+public interface PageFlow<T> {
+    T run(DriverContext context) throws Exception;
+}
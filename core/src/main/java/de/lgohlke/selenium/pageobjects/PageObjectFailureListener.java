@@ -0,0 +1,14 @@
+package de.lgohlke.selenium.pageobjects;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * notified about failed waits of page objects, registered per driver at the {@link DriverContext}
+ * <p>
+ * works for every driver, for an {@link org.openqa.selenium.support.events.EventFiringWebDriver} the failure is also
+ * passed to its event listeners
+ */
+@FunctionalInterface
+public interface PageObjectFailureListener {
+    void onFailure(Throwable failure, WebDriver driver);
+}
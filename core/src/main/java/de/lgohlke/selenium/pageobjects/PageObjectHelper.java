@@ -0,0 +1,380 @@
+package de.lgohlke.selenium.pageobjects;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * presence checks of page factory elements and locators are answered by one script without implicit wait and
+ * exceptions, other elements and drivers without javascript are checked one by one; those are looked up without
+ * implicit wait if it was set by {@link DriverContext#setImplicitWait(long, TimeUnit)}
+ * <p>
+ * forms are filled the same way, see {@link #fill(Map)}
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PageObjectHelper {
+    /**
+     * applies each [action, argument, strategy, value, root] spec passed as first argument until one fails, the
+     * strategy 'element' takes the element as value, the root is optional
+     * <p>
+     * the result per applied spec is 1 (done), 0 (not found) or -1 (needs the native way)
+     */
+    static final String FILL_SCRIPT = ScriptLocator.FIND_ALL_FUNCTION +
+            "var specs = arguments[0], results = [];\n" +
+            "function fire(el, type) {\n" +
+            "  var event = document.createEvent('HTMLEvents');\n" +
+            "  event.initEvent(type, true, true);\n" +
+            "  el.dispatchEvent(event);\n" +
+            "}\n" +
+            "function setValue(el, value) {\n" +
+            "  try {\n" +
+            "    // the native setter keeps frameworks tracking the value property in sync\n" +
+            "    var descriptor = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(el), 'value');\n" +
+            "    descriptor.set.call(el, value);\n" +
+            "  } catch (e) {\n" +
+            "    el.value = value;\n" +
+            "  }\n" +
+            "}\n" +
+            "function apply(spec) {\n" +
+            "  var el = spec[3];\n" +
+            "  if (spec[2] !== 'element') {\n" +
+            "    var found = findAll(spec[4] || document, spec[2], spec[3]);\n" +
+            "    if (!found) { return -1; }\n" +
+            "    if (!found.length) { return 0; }\n" +
+            "    el = found[0];\n" +
+            "  }\n" +
+            "  if (el.disabled) { return -1; }\n" +
+            "  switch (spec[0]) {\n" +
+            "    case 'SET':\n" +
+            "      if (!('value' in el) || el.readOnly || el.type === 'file') { return -1; }\n" +
+            "      setValue(el, spec[1]);\n" +
+            "      fire(el, 'input');\n" +
+            "      fire(el, 'change');\n" +
+            "      return 1;\n" +
+            "    case 'CHECK':\n" +
+            "      if (!!el.checked !== spec[1]) { el.click(); }\n" +
+            "      return 1;\n" +
+            "    case 'CLICK':\n" +
+            "      el.click();\n" +
+            "      return 1;\n" +
+            "  }\n" +
+            "  return -1;\n" +
+            "}\n" +
+            "for (var i = 0; i < specs.length; i++) {\n" +
+            "  var result;\n" +
+            "  try {\n" +
+            "    result = apply(specs[i]);\n" +
+            "  } catch (e) {\n" +
+            "    result = -1;\n" +
+            "  }\n" +
+            "  results.push(result);\n" +
+            "  if (result !== 1) { break; }\n" +
+            "}\n" +
+            "return results;";
+
+    private final WebDriver driver;
+
+    public boolean isPresent(WebElement element) {
+        return arePresent(element).get(0);
+    }
+
+    public boolean isPresent(By by) {
+        return arePresent(by).get(0);
+    }
+
+    /**
+     * a deferred validation of the page object is not run by the check
+     *
+     * @return bit i is set if element i is present
+     */
+    public BitSet arePresent(WebElement... elements) {
+        List<Lookup> lookups = new ArrayList<>(elements.length);
+        for (WebElement element : elements) {
+            lookups.add(Lookup.of(DeferredValidation.withoutValidation(element)));
+        }
+        return arePresent(lookups);
+    }
+
+    /**
+     * @return bit i is set if locator i matches at least one element of the document
+     */
+    public BitSet arePresent(By... locators) {
+        List<Lookup> lookups = new ArrayList<>(locators.length);
+        for (By by : locators) {
+            lookups.add(Lookup.of(driver, by));
+        }
+        return arePresent(lookups);
+    }
+
+    private BitSet arePresent(List<Lookup> lookups) {
+        BitSet        present  = new BitSet(lookups.size());
+        List<Long>    counts   = countByScript(lookups);
+        List<Integer> oneByOne = new ArrayList<>();
+        for (int i = 0; i < lookups.size(); i++) {
+            long count = counts == null ? -1 : counts.get(i);
+            if (count < 0) {
+                oneByOne.add(i);
+            } else {
+                present.set(i, count > 0);
+            }
+        }
+        if (!oneByOne.isEmpty()) {
+            long implicitWait = DriverContext.of(driver).getImplicitWaitMillis();
+            if (implicitWait > 0) {
+                driver.manage().timeouts().implicitlyWait(0, TimeUnit.MILLISECONDS);
+            }
+            try {
+                for (int i : oneByOne) {
+                    present.set(i, lookups.get(i).isPresent());
+                }
+            } finally {
+                if (implicitWait > 0) {
+                    driver.manage().timeouts().implicitlyWait(implicitWait, TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+        return present;
+    }
+
+    /**
+     * @return count per lookup (-1 if not countable by script), null if the script could not be run at all
+     */
+    private List<Long> countByScript(List<Lookup> lookups) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            return null;
+        }
+        List<Integer>       indices  = new ArrayList<>();
+        List<ScriptLocator> locators = new ArrayList<>();
+        List<WebElement>    roots    = new ArrayList<>();
+        for (int i = 0; i < lookups.size(); i++) {
+            Lookup        lookup  = lookups.get(i);
+            ScriptLocator locator = lookup.getScriptLocator();
+            if (locator != null && lookup.getRoot() != null) {
+                indices.add(i);
+                locators.add(locator);
+                roots.add(lookup.getRoot() instanceof WebElement ? (WebElement) lookup.getRoot() : null);
+            }
+        }
+        if (locators.isEmpty()) {
+            return null;
+        }
+
+        List<Long> scripted;
+        try {
+            scripted = ScriptLocator.count((JavascriptExecutor) driver, locators, roots);
+        } catch (WebDriverException | UnsupportedOperationException e) {
+            log.debug("presence check by script not possible, checking one by one: {}", e.getMessage());
+            return null;
+        }
+
+        List<Long> counts = new ArrayList<>(lookups.size());
+        for (int i = 0; i < lookups.size(); i++) {
+            counts.add(-1L);
+        }
+        for (int i = 0; i < indices.size(); i++) {
+            counts.set(indices.get(i), scripted.get(i));
+        }
+        return counts;
+    }
+
+    /**
+     * applies the values in the order of the map, consecutive values are applied by one script
+     * <p>
+     * values which need real keyboard events ({@link FormAction#type(CharSequence)}), elements the script can not
+     * handle (e.g. file inputs, disabled or unknown elements) and drivers without javascript fall back to native
+     * {@link WebElement#clear()}, {@link WebElement#sendKeys(CharSequence...)} and {@link WebElement#click()}
+     *
+     * @param values {@link WebElement} or {@link By} to a {@link FormAction}, {@link CharSequence} or {@link Boolean},
+     *               keep in mind that hashing a page factory element looks it up
+     */
+    public void fill(Map<?, ?> values) {
+        fill(values.entrySet());
+    }
+
+    void fill(Collection<? extends Map.Entry<?, ?>> values) {
+        List<FillEntry> entries = new ArrayList<>(values.size());
+        values.forEach(e -> entries.add(new FillEntry(lookup(e.getKey()), FormAction.of(e.getValue()))));
+
+        boolean scripting = driver instanceof JavascriptExecutor;
+        int     next      = 0;
+        while (next < entries.size()) {
+            int applied = 0;
+            if (scripting) {
+                try {
+                    applied = fillByScript(entries, next);
+                } catch (WebDriverException | UnsupportedOperationException e) {
+                    log.debug("filling by script not possible, filling one by one: {}", e.getMessage());
+                    scripting = false;
+                }
+            }
+            next += applied;
+            if (next < entries.size()) {
+                entries.get(next++).fillNatively();
+            }
+        }
+    }
+
+    private Lookup lookup(Object key) {
+        if (key instanceof WebElement) {
+            return Lookup.of((WebElement) key);
+        }
+        if (key instanceof By) {
+            return Lookup.of(driver, (By) key);
+        }
+        throw new IllegalArgumentException("can not fill " + key + ", expected a WebElement or a By");
+    }
+
+    /**
+     * @return number of entries applied, starting at the first one
+     */
+    private int fillByScript(List<FillEntry> entries, int from) {
+        List<List<Object>> specs = new ArrayList<>();
+        for (int i = from; i < entries.size(); i++) {
+            List<Object> spec = entries.get(i).toSpec();
+            if (spec == null) {
+                break;
+            }
+            specs.add(spec);
+        }
+        if (specs.isEmpty()) {
+            return 0;
+        }
+
+        List<?> results = (List<?>) ((JavascriptExecutor) driver).executeScript(FILL_SCRIPT, specs);
+        int     applied = 0;
+        while (applied < results.size() && ((Number) results.get(applied)).intValue() == 1) {
+            applied++;
+        }
+        log.debug("filled {} of {} elements by script", applied, specs.size());
+        return applied;
+    }
+
+    @RequiredArgsConstructor
+    private static class FillEntry {
+        private final Lookup     lookup;
+        private final FormAction action;
+
+        /**
+         * @return null if the entry can not be applied by script
+         */
+        List<Object> toSpec() {
+            if (action.getType() == FormAction.Type.TYPE) {
+                return null;
+            }
+            ScriptLocator locator = lookup.getScriptLocator();
+            SearchContext root    = lookup.getRoot();
+            if ((locator == null || root == null) && lookup.getElement() == null) {
+                return null;
+            }
+
+            // drivers do not accept null arguments
+            List<Object> spec = new ArrayList<>(5);
+            spec.add(action.getType().name());
+            spec.add(action.getValue() == null ? "" : action.getValue());
+            if (locator == null || root == null) {
+                spec.add("element");
+                spec.add(lookup.getElement());
+            } else {
+                spec.add(locator.getHow());
+                spec.add(locator.getValue());
+                if (root instanceof WebElement) {
+                    spec.add(root);
+                }
+            }
+            return spec;
+        }
+
+        void fillNatively() {
+            WebElement element = lookup.getElement() == null ? lookup.getRoot().findElement(lookup.getBy())
+                                                              : lookup.getElement();
+            switch (action.getType()) {
+                case SET:
+                case TYPE:
+                    element.clear();
+                    element.sendKeys((String) action.getValue());
+                    break;
+                case CHECK:
+                    if (element.isSelected() != (Boolean) action.getValue()) {
+                        element.click();
+                    }
+                    break;
+                case CLICK:
+                    element.click();
+                    break;
+                default:
+                    throw new IllegalStateException("unknown form action " + action);
+            }
+        }
+    }
+
+    /**
+     * an element with its locator and search root if it is a page factory proxy
+     */
+    @RequiredArgsConstructor
+    @Getter
+    private static class Lookup {
+        private final WebElement    element;
+        /**
+         * a {@link WebDriver} means the document, null if not a page factory proxy
+         */
+        private final SearchContext root;
+        private final By            by;
+        /**
+         * null if not countable by script
+         */
+        private final ScriptLocator scriptLocator;
+
+        static Lookup of(WebDriver driver, By by) {
+            return new Lookup(null, driver, by, ScriptLocator.of(by));
+        }
+
+        static Lookup of(WebElement element) {
+            if (Proxy.isProxyClass(element.getClass())) {
+                InvocationHandler handler = Proxy.getInvocationHandler(element);
+                if (handler instanceof DeferredValidation.Handler) {
+                    handler = ((DeferredValidation.Handler) handler).getDelegate();
+                }
+                if (handler instanceof CachingFieldDecorator.Handler) {
+                    CachingElementLocator locator = ((CachingFieldDecorator.Handler) handler).getLocator();
+                    return new Lookup(element, locator.getSearchContext(), locator.getBy(), locator.getScriptLocator());
+                }
+                if (handler instanceof ScriptableElementLocator.Handler) {
+                    ScriptableElementLocator locator = ((ScriptableElementLocator.Handler) handler).getLocator();
+                    return new Lookup(element, locator.getSearchContext(), locator.getBy(), locator.getScriptLocator());
+                }
+            }
+            return new Lookup(element, null, null, null);
+        }
+
+        boolean isPresent() {
+            if (root != null) {
+                return !root.findElements(by).isEmpty();
+            }
+            try {
+                // the tag name needs no javascript, unlike the size in HtmlUnit
+                element.getTagName();
+                return true;
+            } catch (NoSuchElementException | StaleElementReferenceException e) {
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package de.lgohlke.selenium.pageobjects;
+
+import org.openqa.selenium.By;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * compile time generated wiring of a page object, picked up by {@link PageFactoryHelper} instead of reflection
+ * <p>
+ * implementations are generated by the pageobjects-processor as
+ * {@code <package>.<BinaryNameWith_InsteadOf$>_PageObjectInitializer}
+ */
+public interface PageObjectInitializer<T extends PageObject> {
+    String SUFFIX = "_PageObjectInitializer";
+
+    /**
+     * @return names of all nested page object fields in init order
+     */
+    List<String> getNestedFields();
+
+    /**
+     * assigns a nested page object (or its {@link LazyPageObject}) to the field
+     */
+    void setNestedField(T pageObject, String field, Object value);
+
+    /**
+     * @return locators of the {@link ValidatePageObjectOnInit} fields by field name
+     */
+    Map<String, By> getLocators();
+}
@@ -0,0 +1,318 @@
+package de.lgohlke.selenium.pageobjects;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.pagefactory.Annotations;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * reflective model of a page object class, computed once per class and shared by all {@link PageFactoryHelper}s
+ * <p>
+ * backed by a {@link ClassValue}, so it is thread-safe and does not pin classes of other classloaders
+ */
+@Slf4j
+@Getter
+final class PageObjectMetadata {
+    private static final ClassValue<PageObjectMetadata> CACHE = new ClassValue<PageObjectMetadata>() {
+        @Override
+        protected PageObjectMetadata computeValue(Class<?> type) {
+            return new PageObjectMetadata(type);
+        }
+    };
+
+    private final Class<?>                  type;
+    private final boolean                   page;
+    /**
+     * annotated with {@link SharedPageObject}
+     */
+    private final boolean                   shared;
+    /**
+     * {@link AwaitPageReady} of a {@link Page}, null if the page is not awaited
+     */
+    private final AwaitPageReady            readiness;
+    /**
+     * fields of type {@link PageObject} or {@link LazyPageObject} in the whole hierarchy in init order, the order of
+     * the generated {@link PageObjectInitializer} or else sorted by name
+     */
+    private final List<NestedField>         nestedPageObjectFields;
+    /**
+     * fields annotated with {@link ValidatePageObjectOnInit} and {@link FindBy} in the whole hierarchy,
+     * declaring class first
+     */
+    private final List<ValidatedField>      validatedFields;
+    /**
+     * fields of type {@link WebElement} by name in the whole hierarchy, a subclass field hides a superclass field
+     */
+    private final Map<String, Field>        elementFields;
+    /**
+     * script counterparts of the locators of the {@link WebElement} and {@link List} fields in the whole hierarchy,
+     * built from their annotations; fields which can not be located by script are missing
+     */
+    private final Map<Field, ScriptLocator> scriptLocators;
+    /**
+     * {@link FindBy} fields of type {@link List} of a page object, built from one lookup of their root elements
+     */
+    private final List<ComponentList>       componentLists;
+
+    private PageObjectMetadata(Class<?> type) {
+        this.type = type;
+        this.page = Page.class.isAssignableFrom(type);
+        this.shared = type.isAnnotationPresent(SharedPageObject.class);
+        this.readiness = page ? type.getAnnotation(AwaitPageReady.class) : null;
+
+        PageObjectInitializer<PageObject> initializer = findInitializer(type);
+
+        List<NestedField>         nested    = new ArrayList<>();
+        List<ValidatedField>      validated = new ArrayList<>();
+        Map<String, Field>        elements  = new HashMap<>();
+        List<ComponentList>       lists     = new ArrayList<>();
+        Map<Field, ScriptLocator> scripted  = new HashMap<>();
+        for (Class<?> clazz = type; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            log.debug("collect all fields in {}", clazz.getSimpleName());
+            for (Field f : clazz.getDeclaredFields()) {
+                if (WebElement.class == f.getType() && !elements.containsKey(f.getName())) {
+                    f.setAccessible(true);
+                    elements.put(f.getName(), f);
+                }
+                if (WebElement.class == f.getType() || List.class == f.getType()) {
+                    ScriptLocator scriptLocator = ScriptLocator.of(f);
+                    if (scriptLocator != null) {
+                        scripted.put(f, scriptLocator);
+                    }
+                }
+                if (PageObject.class.isAssignableFrom(f.getType())) {
+                    f.setAccessible(true);
+                    nested.add(new NestedField(f, f.getType().asSubclass(PageObject.class)));
+                } else if (LazyPageObject.class == f.getType()) {
+                    Class<? extends PageObject> referencedType = referencedType(f);
+                    if (referencedType == null) {
+                        log.warn("type argument of {}.{} is not a page object", clazz.getSimpleName(), f.getName());
+                    } else {
+                        f.setAccessible(true);
+                        nested.add(new NestedField(f, referencedType));
+                    }
+                } else if (null != f.getAnnotation(FindBy.class)) {
+                    Class<? extends PageObject> componentType = List.class == f.getType() ? referencedType(f) : null;
+                    ValidatePageObjectOnInit    validate      = f.getAnnotation(ValidatePageObjectOnInit.class);
+                    if (componentType == null && validate == null) {
+                        continue;
+                    }
+                    f.setAccessible(true);
+                    FindBy findBy = f.getAnnotation(FindBy.class);
+                    By by = initializer == null ? null : initializer.getLocators().get(f.getName());
+                    if (by == null) {
+                        by = new Annotations(f).buildBy();
+                    }
+                    if (componentType != null) {
+                        lists.add(new ComponentList(f, componentType, by));
+                    }
+                    if (validate != null) {
+                        validated.add(new ValidatedField(f,
+                                                         findBy,
+                                                         by,
+                                                         scripted.get(f),
+                                                         componentType != null,
+                                                         validate));
+                    }
+                }
+            }
+        }
+        nested.sort(Comparator.comparing(f -> f.getField().getName()));
+        if (initializer != null) {
+            List<NestedField> generated = inGeneratedOrder(nested, initializer);
+            if (generated == null) {
+                List<String> names = nested.stream().map(f -> f.getField().getName()).collect(toList());
+                log.warn("ignore outdated {}, expected nested fields {}", initializer.getClass().getName(), names);
+            } else {
+                generated.forEach(f -> f.initializer = initializer);
+                nested = generated;
+            }
+        }
+
+        this.nestedPageObjectFields = ImmutableList.copyOf(nested);
+        this.validatedFields = ImmutableList.copyOf(validated);
+        this.elementFields = ImmutableMap.copyOf(elements);
+        this.scriptLocators = ImmutableMap.copyOf(scripted);
+        this.componentLists = ImmutableList.copyOf(lists);
+    }
+
+    /**
+     * @return the nested fields in the init order of the generated initializer, null if it does not match the fields
+     */
+    private static List<NestedField> inGeneratedOrder(List<NestedField> nested,
+                                                      PageObjectInitializer<PageObject> initializer) {
+        Map<String, NestedField> byName = new HashMap<>();
+        nested.forEach(f -> byName.put(f.getField().getName(), f));
+        List<String> names = initializer.getNestedFields();
+        if (names.size() != nested.size() || byName.size() != nested.size()) {
+            return null;
+        }
+        List<NestedField> generated = new ArrayList<>(names.size());
+        for (String name : names) {
+            NestedField field = byName.remove(name);
+            if (field == null) {
+                return null;
+            }
+            generated.add(field);
+        }
+        return generated;
+    }
+
+    static PageObjectMetadata of(Class<?> clazz) {
+        return CACHE.get(clazz);
+    }
+
+    /**
+     * @return null if the field can not be located by script
+     */
+    static ScriptLocator scriptLocator(Field field) {
+        return of(field.getDeclaringClass()).scriptLocators.get(field);
+    }
+
+    /**
+     * the generated initializer takes instances of the type only, which is the type it is looked up for
+     */
+    @SuppressWarnings("unchecked")
+    private static PageObjectInitializer<PageObject> findInitializer(Class<?> type) {
+        String packagePrefix = type.getPackage() == null ? "" : type.getPackage().getName() + ".";
+        String simpleName    = type.getName().substring(packagePrefix.length()).replace('$', '_');
+        try {
+            Class<?> clazz = Class.forName(packagePrefix + simpleName + PageObjectInitializer.SUFFIX,
+                                           true,
+                                           type.getClassLoader());
+            log.debug("use generated {}", clazz.getName());
+            return (PageObjectInitializer<PageObject>) clazz.getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            log.warn("can not use generated initializer of {}: {}", type.getName(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static Class<? extends PageObject> referencedType(Field field) {
+        Type genericType = field.getGenericType();
+        if (genericType instanceof ParameterizedType) {
+            Type argument = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+            if (argument instanceof Class && PageObject.class.isAssignableFrom((Class<?>) argument)) {
+                return ((Class<?>) argument).asSubclass(PageObject.class);
+            }
+        }
+        return null;
+    }
+
+    @Getter
+    static final class NestedField {
+        private final Field                       field;
+        private final Class<? extends PageObject> type;
+        /**
+         * field is a {@link LazyPageObject}
+         */
+        private final boolean                     reference;
+        /**
+         * initialize on first use
+         */
+        private final boolean                     lazy;
+        /**
+         * generated direct field access, null falls back to reflection
+         */
+        private PageObjectInitializer<PageObject> initializer;
+
+        NestedField(Field field, Class<? extends PageObject> type) {
+            this.field = field;
+            this.type = type;
+            this.reference = LazyPageObject.class == field.getType();
+            this.lazy = reference && null == field.getAnnotation(ValidatePageObjectOnInit.class);
+        }
+
+        Object get(Object pageObject) throws IllegalAccessException {
+            return field.get(pageObject);
+        }
+
+        void set(Object pageObject, Object value) throws IllegalAccessException {
+            if (initializer == null) {
+                field.set(pageObject, value);
+            } else {
+                initializer.setNestedField((PageObject) pageObject, field.getName(), value);
+            }
+        }
+    }
+
+    @Getter
+    static final class ValidatedField {
+        private final Field         field;
+        private final FindBy        findBy;
+        private final By            by;
+        /**
+         * null if the locator can not be resolved by script
+         */
+        private final ScriptLocator scriptLocator;
+        /**
+         * field is a {@link List}, validated by the number of elements
+         */
+        private final boolean       collection;
+        /**
+         * field is a {@link ComponentList}, which a flat init does not populate
+         */
+        private final boolean       componentList;
+        private final int           min;
+        private final int           max;
+
+        ValidatedField(Field field,
+                       FindBy findBy,
+                       By by,
+                       ScriptLocator scriptLocator,
+                       boolean componentList,
+                       ValidatePageObjectOnInit validate) {
+            this.field = field;
+            this.findBy = findBy;
+            this.by = by;
+            this.scriptLocator = scriptLocator;
+            this.componentList = componentList;
+            this.collection = List.class == field.getType();
+            this.min = collection ? validate.min() : 1;
+            this.max = collection ? validate.max() : Integer.MAX_VALUE;
+        }
+
+        /**
+         * @return null if the number of matching elements is valid
+         */
+        String checkCount(long count) {
+            if (count >= min && count <= max) {
+                return null;
+            }
+            if (!collection) {
+                return "Cannot locate an element using " + by;
+            }
+            return "found " + count + " elements using " + by + ", expected " + min +
+                    (max == Integer.MAX_VALUE ? " or more" : " to " + max);
+        }
+    }
+
+    /**
+     * a list of page object components, each located within one of the elements matching the locator
+     */
+    @RequiredArgsConstructor
+    @Getter
+    static final class ComponentList {
+        private final Field                       field;
+        private final Class<? extends PageObject> type;
+        private final By                          by;
+    }
+}
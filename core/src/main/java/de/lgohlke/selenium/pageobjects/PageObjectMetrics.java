@@ -0,0 +1,59 @@
+package de.lgohlke.selenium.pageobjects;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+/**
+ * receives timings of the init lifecycle of page objects
+ * <p>
+ * the default is the first implementation registered in {@code META-INF/services/de.lgohlke.selenium.pageobjects.PageObjectMetrics},
+ * otherwise {@link #NOOP}, which is never asked to record anything
+ */
+public interface PageObjectMetrics {
+    PageObjectMetrics NOOP = new PageObjectMetrics() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void recordPhase(Class<? extends PageObject> type, Phase phase, long nanos, long commands) {
+        }
+
+        @Override
+        public void recordValidationFailures(Class<? extends PageObject> type, int failures) {
+        }
+    };
+
+    /**
+     * phases of {@link PageFactoryHelper#initElements(Class)}, nested init includes the phases of all nested page objects
+     * and validation is recorded once for the root of the page object tree
+     */
+    enum Phase {
+        INIT_ELEMENTS,
+        NAVIGATION,
+        READINESS,
+        NESTED_INIT,
+        BEFORE_INIT,
+        VALIDATION
+    }
+
+    static PageObjectMetrics loadDefault() {
+        Iterator<PageObjectMetrics> metrics = ServiceLoader.load(PageObjectMetrics.class).iterator();
+        return metrics.hasNext() ? metrics.next() : NOOP;
+    }
+
+    /**
+     * @return false to skip measuring completely
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * @param commands webdriver commands sent during the phase, -1 if the driver can not be instrumented
+     */
+    void recordPhase(Class<? extends PageObject> type, Phase phase, long nanos, long commands);
+
+    void recordValidationFailures(Class<? extends PageObject> type, int failures);
+}
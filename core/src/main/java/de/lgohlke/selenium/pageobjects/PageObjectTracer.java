@@ -0,0 +1,168 @@
+package de.lgohlke.selenium.pageobjects;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * records spans of page object initialization, waits and webdriver commands into a ring buffer and exports them in the
+ * chrome trace event format (chrome://tracing or https://ui.perfetto.dev)
+ * <pre>
+ *     PageObjectTracer tracer = PageObjectTracer.start(100_000);
+ *     ...
+ *     tracer.writeTo(Paths.get("target/pageobjects-trace.json"));
+ *     PageObjectTracer.stop();
+ * </pre>
+ * when the buffer is full the oldest spans are overwritten, webdriver commands are only traced for a
+ * {@link org.openqa.selenium.remote.RemoteWebDriver} after {@link DriverContext#countWireCommands()}
+ */
+@Slf4j
+public final class PageObjectTracer {
+    private static volatile PageObjectTracer active;
+
+    private final AtomicReferenceArray<Span> spans;
+    private final AtomicLong                 next   = new AtomicLong();
+    private final long                       origin = System.nanoTime();
+
+    private PageObjectTracer(int capacity) {
+        spans = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * starts tracing of all page objects, a running tracer is replaced
+     *
+     * @param capacity number of spans kept
+     */
+    public static PageObjectTracer start(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity needs to be positive: " + capacity);
+        }
+        PageObjectTracer tracer = new PageObjectTracer(capacity);
+        active = tracer;
+        log.info("tracing page objects, keeping the last {} spans", capacity);
+        return tracer;
+    }
+
+    public static void stop() {
+        active = null;
+    }
+
+    /**
+     * @return the running tracer or null
+     */
+    static PageObjectTracer active() {
+        return active;
+    }
+
+    void record(String name, String category, long startNanos) {
+        long end   = System.nanoTime();
+        long index = next.getAndIncrement();
+        spans.set((int) (index % spans.length()),
+                  new Span(name, category, startNanos, end - startNanos, Thread.currentThread().getId()));
+    }
+
+    /**
+     * @return the kept spans, oldest first
+     */
+    List<Span> getSpans() {
+        long       last  = next.get();
+        long       first = Math.max(0, last - spans.length());
+        List<Span> list  = new ArrayList<>();
+        for (long i = first; i < last; i++) {
+            Span span = spans.get((int) (i % spans.length()));
+            if (span != null) {
+                list.add(span);
+            }
+        }
+        return list;
+    }
+
+    public void writeTo(Path file) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writeTo(writer);
+        }
+        log.info("wrote trace to {}", file);
+    }
+
+    public void writeTo(Writer writer) throws IOException {
+        Writer out = writer instanceof BufferedWriter ? writer : new BufferedWriter(writer);
+        out.write("{\"traceEvents\":[");
+        boolean first = true;
+        for (Span span : getSpans()) {
+            if (!first) {
+                out.write(",\n");
+            }
+            first = false;
+            out.write("{\"name\":");
+            out.write(json(span.getName()));
+            out.write(",\"cat\":");
+            out.write(json(span.getCategory()));
+            out.write(",\"ph\":\"X\",\"pid\":1,\"tid\":");
+            out.write(Long.toString(span.getThread()));
+            out.write(",\"ts\":");
+            out.write(micros(span.getStartNanos() - origin));
+            out.write(",\"dur\":");
+            out.write(micros(span.getDurationNanos()));
+            out.write("}");
+        }
+        out.write("],\"displayTimeUnit\":\"ms\"}");
+        out.flush();
+    }
+
+    private static String micros(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / (double) TimeUnit.MICROSECONDS.toNanos(1));
+    }
+
+    static String json(String value) {
+        StringBuilder buffer = new StringBuilder(value.length() + 2).append('"');
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    buffer.append("\\\"");
+                    break;
+                case '\\':
+                    buffer.append("\\\\");
+                    break;
+                case '\n':
+                    buffer.append("\\n");
+                    break;
+                case '\r':
+                    buffer.append("\\r");
+                    break;
+                case '\t':
+                    buffer.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        buffer.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        buffer.append(c);
+                    }
+            }
+        }
+        return buffer.append('"').toString();
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    static class Span {
+        private final String name;
+        private final String category;
+        private final long   startNanos;
+        private final long   durationNanos;
+        private final long   thread;
+    }
+}
@@ -0,0 +1,206 @@
+package de.lgohlke.selenium.pageobjects;
+
+import de.lgohlke.selenium.pageobjects.PageObjectMetadata.ValidatedField;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * collects the {@link ValidatePageObjectOnInit} fields of a whole page object tree and validates them in one pass
+ */
+@Slf4j
+@RequiredArgsConstructor
+class PageObjectValidation {
+    private final WebDriver         driver;
+    private final boolean           batch;
+    private final PageObjectMetrics metrics;
+    private final List<Pending>     pendings = new ArrayList<>();
+
+    void add(PageObject pageObject, PageObjectMetadata metadata) {
+        add(pageObject, metadata, null, false);
+    }
+
+    /**
+     * @param root the fields are located within, null for the document
+     * @param flat the page object was initialized flat, its component lists are not populated and not validated
+     */
+    void add(PageObject pageObject, PageObjectMetadata metadata, WebElement root, boolean flat) {
+        if (log.isDebugEnabled()) {
+            log.debug("validate PO {}@{}", pageObject.getClass().getSimpleName(), pageObject.hashCode());
+        }
+        List<ValidatedField> fields = metadata.getValidatedFields();
+        for (int i = 0; i < fields.size(); i++) {
+            if (!flat || !fields.get(i).isComponentList()) {
+                pendings.add(new Pending(pageObject, fields.get(i), root));
+            }
+        }
+    }
+
+    /**
+     * number of fields to validate
+     */
+    int size() {
+        return pendings.size();
+    }
+
+    /**
+     * @throws NoSuchElementException listing all failed fields with their owning class
+     */
+    void validate() {
+        List<Error> errors = new ArrayList<>();
+
+        List<Pending> remaining = pendings;
+        if (batch && !remaining.isEmpty() && driver instanceof JavascriptExecutor) {
+            remaining = validateByScript(remaining, errors);
+        }
+
+        for (Pending pending : remaining) {
+            PageObject pageObject = pending.getPageObject();
+            Field      field      = pending.getField().getField();
+            try {
+                if (log.isDebugEnabled()) {
+                    log.debug("validate webelement {} {} of PO {}@{}",
+                              field.getType().getSimpleName(),
+                              field.getName(),
+                              pageObject.getClass().getSimpleName(),
+                              pageObject.hashCode());
+                }
+                String failure = validateWebelement(pageObject, pending.getField());
+                if (failure != null) {
+                    errors.add(new Error(new NoSuchElementException(failure),
+                                         pageObject.getClass(),
+                                         field,
+                                         pending.getField().getFindBy(),
+                                         failure));
+                }
+            } catch (NoSuchElementException e) {
+                errors.add(new Error(e, pageObject.getClass(), field, pending.getField().getFindBy(), null));
+            }
+        }
+        if (errors.isEmpty()) {
+            return;
+        }
+
+        if (metrics.isEnabled()) {
+            errors.stream()
+                  .collect(groupingBy(Error::getClazz, counting()))
+                  .forEach((clazz, failures) -> metrics.recordValidationFailures(clazz, failures.intValue()));
+        }
+
+        StringBuilder buffer = new StringBuilder();
+        errors.forEach(e -> {
+            buffer.append("\nvalidation for " + e.getClazz() + "." + e.getField()
+                                                                      .getName() + " failed with findby: " + e.getFindBy());
+            if (e.getDetail() != null) {
+                buffer.append(" (").append(e.getDetail()).append(')');
+            }
+        });
+        throw new NoSuchElementException(buffer.toString());
+    }
+
+    /**
+     * resolves all script-expressible locators in one round-trip
+     *
+     * @return the fields which need to be validated one by one
+     */
+    private List<Pending> validateByScript(List<Pending> all, List<Error> errors) {
+        List<Pending> scripted  = new ArrayList<>();
+        List<Pending> remaining = new ArrayList<>();
+        all.forEach(p -> (p.getField().getScriptLocator() == null ? remaining : scripted).add(p));
+        if (scripted.isEmpty()) {
+            return all;
+        }
+
+        List<Long> counts;
+        try {
+            counts = ScriptLocator.count((JavascriptExecutor) driver,
+                                         scripted.stream().map(p -> p.getField().getScriptLocator()).collect(toList()),
+                                         scripted.stream().map(Pending::getRoot).collect(toList()));
+        } catch (WebDriverException | UnsupportedOperationException e) {
+            log.debug("batch validation not possible, falling back to validate one by one: {}", e.getMessage());
+            return all;
+        }
+
+        for (int i = 0; i < scripted.size(); i++) {
+            Pending        pending = scripted.get(i);
+            ValidatedField field   = pending.getField();
+            long           count   = counts.get(i);
+            String         failure = count < 0 ? null : field.checkCount(count);
+            if (count < 0) {
+                remaining.add(pending);
+            } else if (failure != null) {
+                errors.add(new Error(new NoSuchElementException(failure),
+                                     pending.getPageObject().getClass(),
+                                     field.getField(),
+                                     field.getFindBy(),
+                                     field.isCollection() ? failure : null));
+            } else {
+                log.debug("{} is ok", field.getField());
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * @return the failed cardinality of a list field, null if valid
+     * @throws NoSuchElementException if the element is missing
+     */
+    private static String validateWebelement(Object pageObject, ValidatedField validatedField) {
+        Field field = validatedField.getField();
+        try {
+            Object o = field.get(pageObject);
+            if (o instanceof WebElement) {
+                ((WebElement) o).getLocation();
+                log.debug("{} is ok", field);
+            } else if (o instanceof List) {
+                // one lookup of all elements
+                String failure = validatedField.checkCount(((List<?>) o).size());
+                log.debug("{} is {}", field, failure == null ? "ok" : failure);
+                return failure;
+            } else {
+                log.warn("this element [" + o + "] is not instance of " + WebElement.class);
+            }
+        } catch (IllegalAccessException e) {
+            log.error(e.getMessage(), e);
+        }
+        return null;
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    private static class Pending {
+        private final PageObject     pageObject;
+        private final ValidatedField field;
+        /**
+         * null for the document
+         */
+        private final WebElement     root;
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    private static class Error {
+        private final NoSuchElementException      exception;
+        private final Class<? extends PageObject> clazz;
+        private final Field                       field;
+        private final FindBy                      findBy;
+        /**
+         * cardinality of a list field, null for a missing element
+         */
+        private final String                      detail;
+    }
+}
@@ -0,0 +1,93 @@
+package de.lgohlke.selenium.pageobjects;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * awaits a page to be ready with one async script, see {@link AwaitPageReady}
+ */
+@Slf4j
+class PageReadiness {
+    /**
+     * counts pending XHR/fetch requests from the first call on, earlier requests of the page are not seen; the root
+     * element is not checked in documents without {@code querySelector} (quirks mode of old browsers)
+     * <p>
+     * checks every 50ms within the browser, ready means all conditions are met twice in a row; calls back with an empty
+     * string when ready or the unmet conditions on timeout
+     */
+    static final String READY_SCRIPT = "" +
+            "var callback = arguments[arguments.length - 1];\n" +
+            "var root = arguments[0], deadline = new Date().getTime() + arguments[1], settled = 0;\n" +
+            "var state = window.__pageobjectsReadiness;\n" +
+            "if (!state) {\n" +
+            "  state = window.__pageobjectsReadiness = {pending: 0};\n" +
+            "  var track = function() {\n" +
+            "    var done = false;\n" +
+            "    state.pending++;\n" +
+            "    return function() { if (!done) { done = true; state.pending--; } };\n" +
+            "  };\n" +
+            "  if (window.XMLHttpRequest) {\n" +
+            "    var send = XMLHttpRequest.prototype.send;\n" +
+            "    XMLHttpRequest.prototype.send = function() {\n" +
+            "      var xhr = this, finish = track();\n" +
+            "      xhr.addEventListener('readystatechange', function() { if (xhr.readyState === 4) { finish(); } });\n" +
+            "      try { return send.apply(xhr, arguments); } catch (e) { finish(); throw e; }\n" +
+            "    };\n" +
+            "  }\n" +
+            "  if (window.fetch) {\n" +
+            "    var fetch = window.fetch;\n" +
+            "    window.fetch = function() {\n" +
+            "      var finish = track();\n" +
+            "      return fetch.apply(this, arguments).then(function(r) { finish(); return r; },\n" +
+            "                                                function(e) { finish(); throw e; });\n" +
+            "    };\n" +
+            "  }\n" +
+            "}\n" +
+            "function unmet() {\n" +
+            "  var reasons = [];\n" +
+            "  if (document.readyState !== 'complete') { reasons.push('readyState ' + document.readyState); }\n" +
+            "  if (state.pending > 0) { reasons.push(state.pending + ' pending requests'); }\n" +
+            "  if (document.getAnimations) {\n" +
+            "    var running = document.getAnimations().filter(function(a) {\n" +
+            "      return a.playState === 'running' && a.effect && a.effect.getComputedTiming().iterations !== Infinity;\n" +
+            "    }).length;\n" +
+            "    if (running > 0) { reasons.push(running + ' running animations'); }\n" +
+            "  }\n" +
+            "  if (root && document.querySelector && !document.querySelector(root)) { reasons.push('no element ' + root); }\n" +
+            "  return reasons.join(', ');\n" +
+            "}\n" +
+            "function check() {\n" +
+            "  var reasons = unmet();\n" +
+            "  settled = reasons ? 0 : settled + 1;\n" +
+            "  if (settled >= 2) { callback(''); return; }\n" +
+            "  if (new Date().getTime() >= deadline) { callback(reasons || 'not settled'); return; }\n" +
+            "  setTimeout(check, 50);\n" +
+            "}\n" +
+            "check();";
+
+    private PageReadiness() {
+    }
+
+    /**
+     * @return the unmet conditions when the page is not ready within the timeout, null if ready or not checkable
+     */
+    static String await(WebDriver driver, AwaitPageReady readiness) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            log.debug("readiness of the page can not be checked by {}", driver);
+            return null;
+        }
+        try {
+            Object unmet = AdaptiveWait.executeAsyncScript(driver,
+                                                           readiness.timeoutMillis(),
+                                                           READY_SCRIPT,
+                                                           readiness.rootSelector(),
+                                                           readiness.timeoutMillis());
+            return unmet == null || "".equals(unmet) ? null : unmet.toString();
+        } catch (WebDriverException | UnsupportedOperationException e) {
+            log.debug("readiness of the page can not be checked: {}", e.getMessage());
+            return null;
+        }
+    }
+}
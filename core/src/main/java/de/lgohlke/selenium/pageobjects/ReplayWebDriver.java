@@ -0,0 +1,194 @@
+package de.lgohlke.selenium.pageobjects;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.BeanToJsonConverter;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.DesiredCapabilities;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.ErrorCodes;
+import org.openqa.selenium.remote.JsonToBeanConverter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import static de.lgohlke.selenium.pageobjects.CommandRecorder.*;
+
+/**
+ * serves the responses recorded by a {@link CommandRecorder} without a browser
+ * <p>
+ * each command gets the next recorded response of the same command with equal parameters, so a flow issuing fewer
+ * or reordered commands still replays; a command without recorded response fails with a {@link WebDriverException}
+ * <pre>
+ *     ReplayWebDriver driver = ReplayWebDriver.of(Paths.get("login-flow.jsonl.gz"), false);
+ *     new PageFactoryHelper(driver).initElements(LoginPage.class).login("user", "secret");
+ *     log.info("{} commands, {} not replayed", driver.getReplayed(), driver.getRemaining());
+ * </pre>
+ */
+@Slf4j
+public final class ReplayWebDriver extends RemoteWebDriver {
+    private final Executor executor;
+
+    private ReplayWebDriver(Executor executor) {
+        super(executor, new DesiredCapabilities(executor.getCapabilities()));
+        this.executor = executor;
+    }
+
+    /**
+     * @param withLatency each response is delayed by its recorded latency
+     */
+    public static ReplayWebDriver of(Path recording, boolean withLatency) throws IOException {
+        return new ReplayWebDriver(new Executor(recording, withLatency));
+    }
+
+    /**
+     * @return number of commands served so far
+     */
+    public long getReplayed() {
+        return executor.getReplayed();
+    }
+
+    /**
+     * @return number of recorded responses not served so far
+     */
+    public long getRemaining() {
+        return executor.getRemaining();
+    }
+
+    private static class Executor implements CommandExecutor {
+        private final JsonToBeanConverter           fromJson  = new JsonToBeanConverter();
+        private final BeanToJsonConverter           toJson    = new BeanToJsonConverter();
+        private final Map<String, Queue<Map<?, ?>>> responses = new HashMap<>();
+        private final boolean                       withLatency;
+        @Getter
+        private final String                        sessionId;
+        @Getter
+        private final Map<String, ?>                capabilities;
+        private       long                          replayed;
+        private       long                          remaining;
+
+        @SuppressWarnings("unchecked")
+        Executor(Path recording, boolean withLatency) throws IOException {
+            this.withLatency = withLatency;
+            try (BufferedReader reader = open(recording)) {
+                String header = reader.readLine();
+                if (header == null) {
+                    throw new IOException("empty recording " + recording);
+                }
+                Map<String, ?> session = fromJson.convert(Map.class, header);
+                sessionId = (String) session.get(SESSION_ID);
+                capabilities = (Map<String, ?>) session.get(CAPABILITIES);
+
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    Map<?, ?> recorded = fromJson.convert(Map.class, line);
+                    responses.computeIfAbsent(key((String) recorded.get(NAME), recorded.get(PARAMETERS)),
+                                              k -> new ArrayDeque<>())
+                             .add(recorded);
+                    remaining++;
+                }
+            }
+            log.debug("replaying {} commands of session {}", remaining, sessionId);
+        }
+
+        synchronized long getReplayed() {
+            return replayed;
+        }
+
+        synchronized long getRemaining() {
+            return remaining;
+        }
+
+        private static BufferedReader open(Path file) throws IOException {
+            InputStream in = Files.newInputStream(file);
+            if (file.getFileName().toString().endsWith(".gz")) {
+                in = new GZIPInputStream(in);
+            }
+            return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+
+        /**
+         * the parameters as json with sorted keys, the same for recorded and replayed commands
+         */
+        private String key(String name, Object parameters) {
+            return name + ' ' + toJson.convert(sorted(fromJson.convert(Map.class, toJson.convert(parameters))));
+        }
+
+        private static Object sorted(Object value) {
+            if (value instanceof Map) {
+                Map<String, Object> sorted = new TreeMap<>();
+                ((Map<?, ?>) value).forEach((k, v) -> sorted.put(String.valueOf(k), sorted(v)));
+                return sorted;
+            }
+            if (value instanceof List) {
+                return ((List<?>) value).stream().map(Executor::sorted).collect(Collectors.toList());
+            }
+            return value;
+        }
+
+        @Override
+        public Response execute(Command command) throws IOException {
+            Response response = new Response();
+            response.setSessionId(sessionId);
+            response.setStatus(ErrorCodes.SUCCESS);
+            if (DriverCommand.NEW_SESSION.equals(command.getName())) {
+                response.setValue(capabilities);
+                return response;
+            }
+
+            Map<?, ?> recorded;
+            synchronized (this) {
+                Queue<Map<?, ?>> queue = responses.get(key(command.getName(), command.getParameters()));
+                recorded = queue == null ? null : queue.poll();
+                if (recorded != null) {
+                    replayed++;
+                    remaining--;
+                }
+            }
+            if (recorded == null) {
+                if (DriverCommand.QUIT.equals(command.getName())) {
+                    return response;
+                }
+                // thrown exceptions would be reported as unreachable browser
+                response.setStatus(ErrorCodes.UNHANDLED_ERROR);
+                response.setValue(Collections.singletonMap("message", "no recorded response for " + command.getName() +
+                        " with " + command.getParameters()));
+                return response;
+            }
+
+            if (withLatency) {
+                sleep(((Number) recorded.get(NANOS)).longValue());
+            }
+            response.setStatus(((Number) recorded.get(STATUS)).intValue());
+            response.setValue(recorded.get(VALUE));
+            return response;
+        }
+
+        private static void sleep(long nanos) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(nanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new WebDriverException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package de.lgohlke.selenium.pageobjects;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.FindsByClassName;
+import org.openqa.selenium.internal.FindsByCssSelector;
+import org.openqa.selenium.internal.FindsById;
+import org.openqa.selenium.internal.FindsByLinkText;
+import org.openqa.selenium.internal.FindsByName;
+import org.openqa.selenium.internal.FindsByTagName;
+import org.openqa.selenium.internal.FindsByXPath;
+import org.openqa.selenium.support.ByIdOrName;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * a {@link FindBy} expressed as a strategy/value pair, which can be resolved in the browser
+ * <p>
+ * used to resolve many locators with a single {@link JavascriptExecutor#executeScript(String, Object...)}
+ */
+@RequiredArgsConstructor
+@Getter
+@EqualsAndHashCode
+final class ScriptLocator {
+    /**
+     * defines {@code findAll(root, how, value)}, which returns the matches as array or null for unknown strategies
+     */
+    static final String FIND_ALL_FUNCTION = "" +
+            "function attr(name, value) {\n" +
+            "  return '[' + name + '=\"' + value.replace(/([\"\\\\])/g, '\\\\$1') + '\"]';\n" +
+            "}\n" +
+            "function links(root, matches) {\n" +
+            "  var anchors = root.getElementsByTagName('a'), found = [];\n" +
+            "  for (var i = 0; i < anchors.length; i++) {\n" +
+            "    var text = (anchors[i].innerText || anchors[i].textContent || '').replace(/^\\s+|\\s+$/g, '');\n" +
+            "    if (matches(text)) { found.push(anchors[i]); }\n" +
+            "  }\n" +
+            "  return found;\n" +
+            "}\n" +
+            "function xpath(root, value) {\n" +
+            "  var snapshot = document.evaluate(value, root, null, 7, null), found = [];\n" +
+            "  for (var i = 0; i < snapshot.snapshotLength; i++) { found.push(snapshot.snapshotItem(i)); }\n" +
+            "  return found;\n" +
+            "}\n" +
+            "function findAll(root, how, value) {\n" +
+            "  switch (how) {\n" +
+            "    case 'id': return root.querySelectorAll(attr('id', value));\n" +
+            "    case 'name': return root.querySelectorAll(attr('name', value));\n" +
+            "    case 'idOrName': return root.querySelectorAll(attr('id', value) + ',' + attr('name', value));\n" +
+            "    case 'className': return root.getElementsByClassName(value);\n" +
+            "    case 'css': return root.querySelectorAll(value);\n" +
+            "    case 'tagName': return root.getElementsByTagName(value);\n" +
+            "    case 'xpath': return xpath(root, value);\n" +
+            "    case 'linkText': return links(root, function(t) { return t === value; });\n" +
+            "    case 'partialLinkText': return links(root, function(t) { return t.indexOf(value) >= 0; });\n" +
+            "  }\n" +
+            "  return null;\n" +
+            "}\n";
+
+    /**
+     * counts the matches of each [strategy, value, root] triple passed as first argument,
+     * -1 signals a locator the browser could not evaluate (e.g. invalid selector)
+     */
+    static final String COUNT_SCRIPT = FIND_ALL_FUNCTION +
+            "var specs = arguments[0], counts = [];\n" +
+            "for (var i = 0; i < specs.length; i++) {\n" +
+            "  try {\n" +
+            "    var found = findAll(specs[i][2] || document, specs[i][0], specs[i][1]);\n" +
+            "    counts.push(found ? found.length : -1);\n" +
+            "  } catch (e) {\n" +
+            "    counts.push(-1);\n" +
+            "  }\n" +
+            "}\n" +
+            "return counts;";
+
+    private static final Set<Class<?>> SCRIPTABLE = new HashSet<>(Arrays.asList(By.ById.class,
+                                                                                 By.ByName.class,
+                                                                                 By.ByClassName.class,
+                                                                                 By.ByCssSelector.class,
+                                                                                 By.ByTagName.class,
+                                                                                 By.ByXPath.class,
+                                                                                 By.ByLinkText.class,
+                                                                                 By.ByPartialLinkText.class,
+                                                                                 ByIdOrName.class));
+
+    private final String how;
+    private final String value;
+
+    /**
+     * mirrors the precedence of selenium's {@link org.openqa.selenium.support.pagefactory.Annotations}
+     *
+     * @return null if the locator can not be expressed
+     */
+    static ScriptLocator of(FindBy findBy) {
+        if (!findBy.className().isEmpty()) {
+            return new ScriptLocator("className", findBy.className());
+        }
+        if (!findBy.css().isEmpty()) {
+            return new ScriptLocator("css", findBy.css());
+        }
+        if (!findBy.id().isEmpty()) {
+            return new ScriptLocator("id", findBy.id());
+        }
+        if (!findBy.linkText().isEmpty()) {
+            return new ScriptLocator("linkText", findBy.linkText());
+        }
+        if (!findBy.name().isEmpty()) {
+            return new ScriptLocator("name", findBy.name());
+        }
+        if (!findBy.partialLinkText().isEmpty()) {
+            return new ScriptLocator("partialLinkText", findBy.partialLinkText());
+        }
+        if (!findBy.tagName().isEmpty()) {
+            return new ScriptLocator("tagName", findBy.tagName());
+        }
+        if (!findBy.xpath().isEmpty()) {
+            return new ScriptLocator("xpath", findBy.xpath());
+        }
+
+        switch (findBy.how()) {
+            case CLASS_NAME:
+                return new ScriptLocator("className", findBy.using());
+            case CSS:
+                return new ScriptLocator("css", findBy.using());
+            case ID:
+                return new ScriptLocator("id", findBy.using());
+            case ID_OR_NAME:
+                return new ScriptLocator("idOrName", findBy.using());
+            case LINK_TEXT:
+                return new ScriptLocator("linkText", findBy.using());
+            case NAME:
+                return new ScriptLocator("name", findBy.using());
+            case PARTIAL_LINK_TEXT:
+                return new ScriptLocator("partialLinkText", findBy.using());
+            case TAG_NAME:
+                return new ScriptLocator("tagName", findBy.using());
+            case XPATH:
+                return new ScriptLocator("xpath", findBy.using());
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * like selenium's {@link org.openqa.selenium.support.pagefactory.Annotations}: the {@link FindBy} of the field or
+     * id or name by the name of the field if it is not annotated at all
+     *
+     * @return null if the locator can not be expressed (e.g. {@link FindBys} or {@link FindAll})
+     */
+    static ScriptLocator of(Field field) {
+        FindBy findBy = field.getAnnotation(FindBy.class);
+        if (findBy != null) {
+            return of(findBy);
+        }
+        if (field.getAnnotation(FindBys.class) != null || field.getAnnotation(FindAll.class) != null) {
+            return null;
+        }
+        return new ScriptLocator("idOrName", field.getName());
+    }
+
+    /**
+     * the strategy and value are told by the locator itself: it calls the matching {@code findElementsBy...} of the
+     * search context it is given, see {@link Capture}
+     *
+     * @return null for locators without a script counterpart (e.g. chained locators)
+     */
+    static ScriptLocator of(By by) {
+        if (!SCRIPTABLE.contains(by.getClass())) {
+            return null;
+        }
+        Capture capture = new Capture();
+        by.findElements(capture);
+        if (by instanceof ByIdOrName) {
+            return capture.captured.size() == 2 ? new ScriptLocator("idOrName", capture.captured.get(0).value) : null;
+        }
+        return capture.captured.size() == 1 ? capture.captured.get(0) : null;
+    }
+
+    /**
+     * resolves all locators within the document in one round-trip
+     *
+     * @return number of matches per locator, -1 if the browser could not evaluate it
+     */
+    static List<Long> count(JavascriptExecutor executor, List<ScriptLocator> locators) {
+        return count(executor, locators, Collections.nCopies(locators.size(), null));
+    }
+
+    /**
+     * resolves all locators in one round-trip
+     *
+     * @param roots search root per locator, null entries mean the document
+     * @return number of matches per locator, -1 if the browser could not evaluate it
+     */
+    static List<Long> count(JavascriptExecutor executor, List<ScriptLocator> locators, List<WebElement> roots) {
+        List<List<Object>> specs = new ArrayList<>(locators.size());
+        for (int i = 0; i < locators.size(); i++) {
+            ScriptLocator locator = locators.get(i);
+            specs.add(toSpec(locator, roots.get(i)));
+        }
+
+        List<?>    result = (List<?>) executor.executeScript(COUNT_SCRIPT, specs);
+        List<Long> counts = new ArrayList<>(result.size());
+        result.forEach(n -> counts.add(((Number) n).longValue()));
+        return counts;
+    }
+
+    private static List<Object> toSpec(ScriptLocator locator, WebElement root) {
+        List<Object> spec = new ArrayList<>(3);
+        spec.add(locator.how);
+        spec.add(locator.value);
+        if (root != null) {
+            spec.add(root);
+        }
+        return spec;
+    }
+
+    /**
+     * a search context which records the strategy and value each lookup is called with instead of looking up
+     */
+    private static class Capture implements SearchContext,
+                                            FindsById,
+                                            FindsByName,
+                                            FindsByClassName,
+                                            FindsByCssSelector,
+                                            FindsByTagName,
+                                            FindsByXPath,
+                                            FindsByLinkText {
+        private final List<ScriptLocator> captured = new ArrayList<>(2);
+
+        private List<WebElement> capture(String how, String value) {
+            captured.add(new ScriptLocator(how, value));
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<WebElement> findElements(By by) {
+            return by.findElements(this);
+        }
+
+        @Override
+        public WebElement findElement(By by) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<WebElement> findElementsById(String using) {
+            return capture("id", using);
+        }
+
+        @Override
+        public WebElement findElementById(String using) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<WebElement> findElementsByName(String using) {
+            return capture("name", using);
+        }
+
+        @Override
+        public WebElement findElementByName(String using) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<WebElement> findElementsByClassName(String using) {
+            return capture("className", using);
+        }
+
+        @Override
+        public WebElement findElementByClassName(String using) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<WebElement> findElementsByCssSelector(String using) {
+            return capture("css", using);
+        }
+
+        @Override
+        public WebElement findElementByCssSelector(String using) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<WebElement> findElementsByTagName(String using) {
+            return capture("tagName", using);
+        }
+
+        @Override
+        public WebElement findElementByTagName(String using) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<WebElement> findElementsByXPath(String using) {
+            return capture("xpath", using);
+        }
+
+        @Override
+        public WebElement findElementByXPath(String using) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<WebElement> findElementsByLinkText(String using) {
+            return capture("linkText", using);
+        }
+
+        @Override
+        public WebElement findElementByLinkText(String using) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<WebElement> findElementsByPartialLinkText(String using) {
+            return capture("partialLinkText", using);
+        }
+
+        @Override
+        public WebElement findElementByPartialLinkText(String using) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
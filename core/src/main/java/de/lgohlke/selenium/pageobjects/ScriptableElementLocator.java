@@ -0,0 +1,48 @@
+package de.lgohlke.selenium.pageobjects;
+
+import lombok.Getter;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocator;
+import org.openqa.selenium.support.pagefactory.internal.LocatingElementHandler;
+
+import java.lang.reflect.Field;
+
+/**
+ * the default lookup of a page factory field, which also tells the script counterpart of its locator so that presence
+ * checks and form fills of many fields need one round-trip
+ */
+@Getter
+class ScriptableElementLocator extends DefaultElementLocator {
+    private final SearchContext searchContext;
+    private final By            by;
+    /**
+     * null if the element can not be located by script
+     */
+    private final ScriptLocator scriptLocator;
+
+    ScriptableElementLocator(SearchContext searchContext, Field field) {
+        this(searchContext, field, new Annotations(field));
+    }
+
+    private ScriptableElementLocator(SearchContext searchContext, Field field, Annotations annotations) {
+        super(searchContext, annotations);
+        this.searchContext = searchContext;
+        by = annotations.buildBy();
+        scriptLocator = PageObjectMetadata.scriptLocator(field);
+    }
+
+    /**
+     * the default element proxy handler, which keeps its locator accessible
+     */
+    @Getter
+    static class Handler extends LocatingElementHandler {
+        private final ScriptableElementLocator locator;
+
+        Handler(ScriptableElementLocator locator) {
+            super(locator);
+            this.locator = locator;
+        }
+    }
+}
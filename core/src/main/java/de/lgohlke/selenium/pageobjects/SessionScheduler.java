@@ -0,0 +1,361 @@
+package de.lgohlke.selenium.pageobjects;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * runs page flows concurrently on a bounded pool of driver sessions
+ * <p>
+ * sessions are created on demand by the factory and recycled after a number of flows or when they fail the health
+ * check after a failed flow; flows with the same affinity key run on the same session as long as it lives
+ * <pre>
+ *     try (SessionScheduler scheduler = new SessionScheduler(PhantomJSDriver::new, 4)) {
+ *         CompletableFuture&lt;String&gt; title = scheduler.submit(context -&gt; {
+ *             LoginPage page = context.newPageFactoryHelper().initElements(LoginPage.class);
+ *             return page.login("user", "secret").getTitle();
+ *         });
+ *     }
+ * </pre>
+ * flows run on the given executor, e.g. {@code Executors.newVirtualThreadPerTaskExecutor()} on java 21, flows waiting
+ * for a session do not pin the carrier thread of a virtual thread
+ */
+@Slf4j
+public class SessionScheduler implements AutoCloseable {
+    private final Supplier<WebDriver> driverFactory;
+    @Getter
+    private final int                 maxSessions;
+    private final ExecutorService     executor;
+    private final boolean             ownExecutor;
+
+    private final Lock                 lock     = new ReentrantLock();
+    private final Condition            changed  = lock.newCondition();
+    private final List<Session>        sessions = new ArrayList<>();
+    private final Deque<Session>       idle     = new ArrayDeque<>();
+    private final Map<String, Session> affinity = new HashMap<>();
+    /**
+     * affinity keys whose first session is being acquired, other flows of the key wait for it
+     */
+    private final Set<String>          binding  = new HashSet<>();
+    private final AtomicInteger        queued   = new AtomicInteger();
+    private       int                  creating;
+    private       boolean              closed;
+
+    /**
+     * number of flows after which a session is recycled, 0 means never
+     */
+    @Setter
+    private volatile int         maxFlowsPerSession = 0;
+    /**
+     * checked after a flow of the session failed, unhealthy sessions are replaced; healthy sessions are not checked
+     * to save the round-trip
+     */
+    @Setter
+    @NonNull
+    private Predicate<WebDriver> healthCheck        = driver -> driver.getWindowHandle() != null;
+
+    /**
+     * runs the flows on a thread pool with one thread per session
+     */
+    public SessionScheduler(Supplier<WebDriver> driverFactory, int maxSessions) {
+        this(driverFactory, maxSessions, Executors.newFixedThreadPool(maxSessions), true);
+    }
+
+    /**
+     * @param executor is not shut down by {@link #close()}
+     */
+    public SessionScheduler(Supplier<WebDriver> driverFactory, int maxSessions, ExecutorService executor) {
+        this(driverFactory, maxSessions, executor, false);
+    }
+
+    private SessionScheduler(Supplier<WebDriver> driverFactory,
+                             int maxSessions,
+                             ExecutorService executor,
+                             boolean ownExecutor) {
+        if (maxSessions < 1) {
+            throw new IllegalArgumentException("maxSessions needs to be positive: " + maxSessions);
+        }
+        this.driverFactory = driverFactory;
+        this.maxSessions = maxSessions;
+        this.executor = executor;
+        this.ownExecutor = ownExecutor;
+    }
+
+    public <T> CompletableFuture<T> submit(PageFlow<T> flow) {
+        return submit(null, flow);
+    }
+
+    /**
+     * @param affinityKey flows with the same key run on the same session, null for any session
+     */
+    public <T> CompletableFuture<T> submit(String affinityKey, PageFlow<T> flow) {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("scheduler is closed");
+            }
+        } finally {
+            lock.unlock();
+        }
+        queued.incrementAndGet();
+        return CompletableFuture.supplyAsync(() -> run(affinityKey, flow), executor);
+    }
+
+    private <T> T run(String affinityKey, PageFlow<T> flow) {
+        Session session;
+        try {
+            session = acquire(affinityKey);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } finally {
+            queued.decrementAndGet();
+        }
+
+        boolean failed = true;
+        try {
+            T result = flow.run(session.getContext());
+            failed = false;
+            return result;
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        } finally {
+            release(session, failed);
+        }
+    }
+
+    private Session acquire(String affinityKey) throws InterruptedException {
+        boolean binds = false;
+        try {
+            while (true) {
+                Session session = null;
+                boolean create  = false;
+                lock.lock();
+                try {
+                    if (closed) {
+                        throw new IllegalStateException("scheduler is closed");
+                    }
+                    Session bound = affinityKey == null ? null : affinity.get(affinityKey);
+                    if (bound != null) {
+                        if (idle.remove(bound)) {
+                            session = bound;
+                        }
+                    } else if (affinityKey != null && !binds && binding.contains(affinityKey)) {
+                        log.trace("wait for the first session of {}", affinityKey);
+                    } else if (!idle.isEmpty()) {
+                        session = idle.pollFirst();
+                    } else if (sessions.size() + creating < maxSessions) {
+                        creating++;
+                        create = true;
+                    }
+                    if (session == null && !create) {
+                        changed.await();
+                        continue;
+                    }
+                    if (affinityKey != null && bound == null) {
+                        binds = binding.add(affinityKey) || binds;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+
+                if (create) {
+                    session = create();
+                }
+
+                lock.lock();
+                try {
+                    if (affinityKey != null) {
+                        affinity.put(affinityKey, session);
+                    }
+                    session.busy = true;
+                } finally {
+                    lock.unlock();
+                }
+                return session;
+            }
+        } finally {
+            if (binds) {
+                lock.lock();
+                try {
+                    binding.remove(affinityKey);
+                    changed.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    private Session create() {
+        try {
+            Session session = new Session(driverFactory.get());
+            log.debug("created session {}", session);
+            lock.lock();
+            try {
+                sessions.add(session);
+            } finally {
+                lock.unlock();
+            }
+            return session;
+        } finally {
+            lock.lock();
+            try {
+                creating--;
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private boolean isHealthy(Session session) {
+        try {
+            return healthCheck.test(session.getDriver());
+        } catch (RuntimeException e) {
+            log.debug("session {} failed the health check: {}", session, e.getMessage());
+            return false;
+        }
+    }
+
+    private void release(Session session, boolean failed) {
+        boolean healthy = !failed || isHealthy(session);
+        lock.lock();
+        try {
+            session.flows++;
+            session.busy = false;
+            boolean recycle = !healthy || closed || (maxFlowsPerSession > 0 && session.flows >= maxFlowsPerSession);
+            if (!recycle) {
+                idle.addLast(session);
+                changed.signalAll();
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        log.debug("recycle session {} after {} flows (healthy: {})", session, session.getFlows(), healthy);
+        discard(session);
+    }
+
+    private void discard(Session session) {
+        lock.lock();
+        try {
+            sessions.remove(session);
+            idle.remove(session);
+            affinity.values().removeIf(s -> s == session);
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        quit(session);
+    }
+
+    private static void quit(Session session) {
+        try {
+            session.getDriver().quit();
+        } catch (RuntimeException e) {
+            log.warn("could not quit session {}: {}", session, e.getMessage());
+        }
+    }
+
+    /**
+     * @return submitted flows waiting for a session
+     */
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    public int getSessionCount() {
+        lock.lock();
+        try {
+            return sessions.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return busy sessions relative to the max sessions, between 0 and 1
+     */
+    public double getUtilization() {
+        lock.lock();
+        try {
+            return sessions.stream().filter(s -> s.busy).count() / (double) maxSessions;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * quits all idle sessions, busy sessions are quit after their flow
+     */
+    @Override
+    public void close() {
+        List<Session> closing;
+        lock.lock();
+        try {
+            closed = true;
+            closing = new ArrayList<>(idle);
+            sessions.removeAll(idle);
+            idle.clear();
+            affinity.clear();
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        closing.forEach(SessionScheduler::quit);
+        if (ownExecutor) {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Getter
+    private static class Session {
+        private static final AtomicInteger IDS = new AtomicInteger();
+
+        private final int           id = IDS.incrementAndGet();
+        private final WebDriver     driver;
+        private final DriverContext context;
+        private       int           flows;
+        private       boolean       busy;
+
+        Session(WebDriver driver) {
+            this.driver = driver;
+            context = DriverContext.of(driver);
+        }
+
+        @Override
+        public String toString() {
+            return "#" + id;
+        }
+    }
+}
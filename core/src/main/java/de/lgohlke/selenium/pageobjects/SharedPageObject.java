@@ -0,0 +1,17 @@
+package de.lgohlke.selenium.pageobjects;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * page objects of this type are initialized and validated only once per {@link PageFactoryHelper#initElements(Class)}
+ * tree, all nested fields of this type get the same instance
+ */
+@Target({ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+public @interface SharedPageObject {
+}
@@ -0,0 +1,224 @@
+package de.lgohlke.selenium.pageobjects;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * reads the cell texts of a table or grid in chunks of rows, one script per chunk instead of one round-trip per cell
+ * <p>
+ * only the current chunk is held, no element references are kept unless the driver can not run the script (then the
+ * rows are found once per iteration); the table should not change while it is read
+ * <pre>
+ *     public class ResultTable extends TableComponent {
+ *         public ResultTable(WebDriver driver) {
+ *             super(driver, By.id("results"));
+ *         }
+ *     }
+ *
+ *     resultTable.rows().filter(row -&gt; row.get(2).equals("failed")).count();
+ * </pre>
+ */
+@Slf4j
+public abstract class TableComponent extends AbstractPageObject implements Iterable<List<String>> {
+    /**
+     * returns the cell texts of the rows [offset, offset + limit) of the table, the number of rows if limit is negative
+     * or null if there is no table
+     * <p>
+     * the table is passed as element or as [strategy, value] pair which is resolved in the document
+     */
+    static final String ROWS_SCRIPT = ScriptLocator.FIND_ALL_FUNCTION +
+            "var spec = arguments[0], rowSelector = arguments[1], cellSelector = arguments[2];\n" +
+            "var offset = arguments[3], limit = arguments[4];\n" +
+            "var table = spec;\n" +
+            "if (Object.prototype.toString.call(spec) === '[object Array]') {\n" +
+            "  var found = findAll(document, spec[0], spec[1]);\n" +
+            "  table = found && found.length > 0 ? found[0] : null;\n" +
+            "}\n" +
+            "if (!table) { return null; }\n" +
+            "var rows = table.querySelectorAll(rowSelector);\n" +
+            "if (limit < 0) { return rows.length; }\n" +
+            "var chunk = [];\n" +
+            "for (var i = offset; i < rows.length && i < offset + limit; i++) {\n" +
+            "  var cells = rows[i].querySelectorAll(cellSelector), texts = [];\n" +
+            "  for (var j = 0; j < cells.length; j++) {\n" +
+            "    var text = cells[j].innerText !== undefined ? cells[j].innerText : cells[j].textContent;\n" +
+            "    texts.push(text.replace(/^\\s+|\\s+$/g, ''));\n" +
+            "  }\n" +
+            "  chunk.push(texts);\n" +
+            "}\n" +
+            "return chunk;";
+
+    private final By            by;
+    /**
+     * null if the table has to be located by the driver
+     */
+    private final ScriptLocator locator;
+    /**
+     * rows per round-trip
+     */
+    @Getter
+    private       int           chunkSize    = 500;
+    /**
+     * css selector of the rows within the table
+     */
+    @Getter
+    @Setter
+    @NonNull
+    private       String        rowSelector  = "tr";
+    /**
+     * css selector of the cells within a row
+     */
+    @Getter
+    @Setter
+    @NonNull
+    private       String        cellSelector = "td, th";
+
+    protected TableComponent(WebDriver driver, By by) {
+        super(driver);
+        this.by = by;
+        locator = ScriptLocator.of(by);
+    }
+
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunk size must be positive, but was " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @return the cell texts of each row, read lazily chunk by chunk
+     */
+    public Stream<List<String>> rows() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(),
+                                                                        Spliterator.ORDERED | Spliterator.NONNULL),
+                                    false);
+    }
+
+    @Override
+    public Iterator<List<String>> iterator() {
+        return new ChunkIterator();
+    }
+
+    /**
+     * @return number of rows, in one round-trip
+     */
+    public int getRowCount() {
+        return ((Number) read(0, -1, null)).intValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<String>> readChunk(int offset, int limit, ChunkIterator iterator) {
+        List<?>            rows  = (List<?>) read(offset, limit, iterator);
+        List<List<String>> chunk = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            List<String> texts = new ArrayList<>();
+            for (Object text : (List<Object>) row) {
+                texts.add(String.valueOf(text));
+            }
+            chunk.add(Collections.unmodifiableList(texts));
+        }
+        log.debug("read rows {} to {} of {}", offset, offset + chunk.size(), by);
+        return chunk;
+    }
+
+    /**
+     * falls back to one lookup per row and cell if the driver can not run the script
+     *
+     * @param iterator keeps the rows found by the fallback, null to find them again
+     */
+    private Object read(int offset, int limit, ChunkIterator iterator) {
+        WebDriver driver = getDriver();
+        if (driver instanceof JavascriptExecutor && (iterator == null || iterator.rows == null)) {
+            Object table = locator == null ? driver.findElement(by) : Arrays.asList(locator.getHow(),
+                                                                                    locator.getValue());
+            Object result;
+            try {
+                result = ((JavascriptExecutor) driver).executeScript(ROWS_SCRIPT,
+                                                                     table,
+                                                                     rowSelector,
+                                                                     cellSelector,
+                                                                     offset,
+                                                                     limit);
+            } catch (WebDriverException | UnsupportedOperationException e) {
+                log.debug("reading rows by script not possible, falling back to read them one by one: {}",
+                          e.getMessage());
+                return readOneByOne(offset, limit, iterator);
+            }
+            if (result == null) {
+                throw new NoSuchElementException("Cannot locate a table using " + by);
+            }
+            return result;
+        }
+        return readOneByOne(offset, limit, iterator);
+    }
+
+    private Object readOneByOne(int offset, int limit, ChunkIterator iterator) {
+        List<WebElement> rows = iterator == null ? null : iterator.rows;
+        if (rows == null) {
+            rows = getDriver().findElement(by).findElements(By.cssSelector(rowSelector));
+            if (iterator != null) {
+                iterator.rows = rows;
+            }
+        }
+        if (limit < 0) {
+            return rows.size();
+        }
+        List<List<String>> chunk = new ArrayList<>();
+        for (WebElement row : rows.subList(Math.min(offset, rows.size()), Math.min(offset + limit, rows.size()))) {
+            List<String> texts = new ArrayList<>();
+            for (WebElement cell : row.findElements(By.cssSelector(cellSelector))) {
+                texts.add(cell.getText());
+            }
+            chunk.add(texts);
+        }
+        return chunk;
+    }
+
+    private class ChunkIterator implements Iterator<List<String>> {
+        private Iterator<List<String>> chunk = Collections.emptyIterator();
+        private int                    offset;
+        private boolean                last;
+        /**
+         * found once if the rows are read one by one
+         */
+        private List<WebElement>       rows;
+
+        @Override
+        public boolean hasNext() {
+            while (!chunk.hasNext() && !last) {
+                List<List<String>> next = readChunk(offset, chunkSize, this);
+                offset += next.size();
+                last = next.size() < chunkSize;
+                chunk = next.iterator();
+            }
+            return chunk.hasNext();
+        }
+
+        @Override
+        public List<String> next() {
+            if (!hasNext()) {
+                throw new java.util.NoSuchElementException();
+            }
+            return chunk.next();
+        }
+    }
+}
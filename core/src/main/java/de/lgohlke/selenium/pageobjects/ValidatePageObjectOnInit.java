@@ -7,8 +7,19 @@ import java.lang.annotation.Target;
 
 /**
  * marker annotation used by {@link PageFactoryHelper}
+ * <p>
+ * a {@link java.util.List} field is valid if the number of matching elements is within min and max
  */
 @Target({ElementType.FIELD})
 @Retention(RetentionPolicy.RUNTIME)
 public @interface ValidatePageObjectOnInit {
+    /**
+     * least number of elements of a list field
+     */
+    int min() default 1;
+
+    /**
+     * most number of elements of a list field
+     */
+    int max() default Integer.MAX_VALUE;
 }
@@ -0,0 +1,49 @@
+package de.lgohlke.selenium.pageobjects;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * how the {@link ValidatePageObjectOnInit} fields of a page object are validated, set per {@link PageFactoryHelper}
+ * and per page object class
+ *
+ * @see PageFactoryHelper#setValidationPolicy(Class, ValidationPolicy)
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ValidationPolicy {
+    /**
+     * every init, failures are reported by {@link PageFactoryHelper#initElements(Class)}
+     */
+    public static final ValidationPolicy FULL     = new ValidationPolicy(Mode.FULL, 1);
+    /**
+     * on the first use of an element of the page object, failures are reported by that use
+     */
+    public static final ValidationPolicy DEFERRED = new ValidationPolicy(Mode.DEFERRED, 1);
+    public static final ValidationPolicy OFF      = new ValidationPolicy(Mode.OFF, 0);
+
+    private final Mode mode;
+    /**
+     * every n-th init per class is validated
+     */
+    private final int  sampleRate;
+
+    /**
+     * validates the first and then every n-th init per class, failures are reported like {@link #FULL}
+     */
+    public static ValidationPolicy sampled(int oneInN) {
+        if (oneInN < 1) {
+            throw new IllegalArgumentException("sample rate needs to be at least 1: " + oneInN);
+        }
+        return new ValidationPolicy(Mode.SAMPLED, oneInN);
+    }
+
+    public enum Mode {
+        FULL, SAMPLED, DEFERRED, OFF
+    }
+}
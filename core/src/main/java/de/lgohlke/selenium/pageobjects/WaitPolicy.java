@@ -0,0 +1,66 @@
+package de.lgohlke.selenium.pageobjects;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * timeout and polling of {@link AbstractPageObject#waitFor}
+ * <p>
+ * the condition is checked immediately, then the polling interval grows by the backoff factor up to the max polling
+ * interval; mutation driven waits re-check as soon as the DOM changed (at the latest after the max polling interval)
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class WaitPolicy {
+    public static final WaitPolicy DEFAULT = new WaitPolicy(15_000, 10, 500, 2, false);
+
+    private final long    timeoutMillis;
+    private final long    initialPollingMillis;
+    private final long    maxPollingMillis;
+    private final double  backoff;
+    private final boolean mutationDriven;
+
+    /**
+     * the behaviour of former versions: polling every interval
+     */
+    public static WaitPolicy fixedPolling(long timeout, long polling, TimeUnit unit) {
+        return new WaitPolicy(unit.toMillis(timeout), unit.toMillis(polling), unit.toMillis(polling), 1, false);
+    }
+
+    public WaitPolicy withTimeout(long timeout, TimeUnit unit) {
+        return new WaitPolicy(unit.toMillis(timeout), initialPollingMillis, maxPollingMillis, backoff, mutationDriven);
+    }
+
+    public WaitPolicy withPolling(long initial, long max, TimeUnit unit) {
+        if (initial < 1 || max < initial) {
+            throw new IllegalArgumentException("polling needs 0 < initial <= max: " + initial + " " + max);
+        }
+        return new WaitPolicy(timeoutMillis, unit.toMillis(initial), unit.toMillis(max), backoff, mutationDriven);
+    }
+
+    public WaitPolicy withBackoff(double backoff) {
+        if (backoff < 1) {
+            throw new IllegalArgumentException("backoff needs to be at least 1: " + backoff);
+        }
+        return new WaitPolicy(timeoutMillis, initialPollingMillis, maxPollingMillis, backoff, mutationDriven);
+    }
+
+    /**
+     * @param mutationDriven re-check on DOM changes, needs a {@link org.openqa.selenium.JavascriptExecutor} and
+     *                       raises its script timeout to the max polling interval
+     */
+    public WaitPolicy withMutationDriven(boolean mutationDriven) {
+        return new WaitPolicy(timeoutMillis, initialPollingMillis, maxPollingMillis, backoff, mutationDriven);
+    }
+
+    long nextPolling(long polling) {
+        return Math.min(maxPollingMillis, (long) Math.ceil(polling * backoff));
+    }
+}
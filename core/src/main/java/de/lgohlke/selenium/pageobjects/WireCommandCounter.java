@@ -0,0 +1,117 @@
+package de.lgohlke.selenium.pageobjects;
+
+import com.google.common.collect.MapMaker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.internal.WrapsDriver;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * counts the commands a {@link RemoteWebDriver} sends over the wire by decorating its {@link CommandExecutor},
+ * with a running {@link PageObjectTracer} each command is traced too
+ * <p>
+ * only installed on request by {@link DriverContext#countWireCommands()}, wrapped drivers are unwrapped, all other
+ * drivers can not be counted
+ */
+@Slf4j
+@RequiredArgsConstructor
+class WireCommandCounter implements CommandExecutor {
+    static final WireCommandCounter UNSUPPORTED = new WireCommandCounter(null);
+
+    private static final ConcurrentMap<WebDriver, WireCommandCounter> COUNTERS    = new MapMaker().weakKeys().makeMap();
+    private static final AtomicBoolean                                NOT_COUNTED = new AtomicBoolean();
+
+    private final CommandExecutor executor;
+    private final LongAdder       commands = new LongAdder();
+
+    /**
+     * @return the installed counter, {@link #UNSUPPORTED} if the commands of the driver are not counted (logged once)
+     */
+    static WireCommandCounter of(WebDriver driver) {
+        RemoteWebDriver    unwrapped = unwrap(driver);
+        WireCommandCounter counter   = unwrapped == null ? null : COUNTERS.get(unwrapped);
+        if (counter == null) {
+            if (NOT_COUNTED.compareAndSet(false, true)) {
+                log.info("webdriver commands are not counted, see DriverContext#countWireCommands()");
+            }
+            return UNSUPPORTED;
+        }
+        return counter;
+    }
+
+    /**
+     * replaces the {@link CommandExecutor} of the driver once
+     *
+     * @return {@link #UNSUPPORTED} if the driver is no {@link RemoteWebDriver} or the executor could not be replaced
+     */
+    static WireCommandCounter install(WebDriver driver) {
+        RemoteWebDriver unwrapped = unwrap(driver);
+        if (unwrapped == null) {
+            log.warn("commands of {} can not be counted, it is no RemoteWebDriver", driver);
+            return UNSUPPORTED;
+        }
+        return COUNTERS.computeIfAbsent(unwrapped, d -> {
+            WireCommandCounter counter = new WireCommandCounter(unwrapped.getCommandExecutor());
+            return setCommandExecutor(unwrapped, counter) ? counter : UNSUPPORTED;
+        });
+    }
+
+    /**
+     * @return the innermost {@link RemoteWebDriver} of wrapped drivers, null for other drivers
+     */
+    static RemoteWebDriver unwrap(WebDriver driver) {
+        WebDriver unwrapped = driver;
+        while (unwrapped instanceof WrapsDriver && ((WrapsDriver) unwrapped).getWrappedDriver() != unwrapped) {
+            unwrapped = ((WrapsDriver) unwrapped).getWrappedDriver();
+        }
+        return unwrapped instanceof RemoteWebDriver ? (RemoteWebDriver) unwrapped : null;
+    }
+
+    /**
+     * @return false if the executor could not be replaced
+     */
+    static boolean setCommandExecutor(RemoteWebDriver driver, CommandExecutor executor) {
+        try {
+            Method setter = RemoteWebDriver.class.getDeclaredMethod("setCommandExecutor", CommandExecutor.class);
+            setter.setAccessible(true);
+            setter.invoke(driver, executor);
+            return true;
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            log.warn("could not decorate the commands of {}: {}", driver, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * @return number of commands sent so far, -1 if not countable
+     */
+    long get() {
+        return executor == null ? -1 : commands.sum();
+    }
+
+    @Override
+    public Response execute(Command command) throws IOException {
+        commands.increment();
+        PageObjectTracer tracer = PageObjectTracer.active();
+        if (tracer == null) {
+            return executor.execute(command);
+        }
+        long started = System.nanoTime();
+        try {
+            return executor.execute(command);
+        } finally {
+            tracer.record(command.getName(), "command", started);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package de.lgohlke.selenium.pageobjects;
+
+import lombok.Getter;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+import org.openqa.selenium.support.events.AbstractWebDriverEventListener;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.openqa.selenium.support.ui.ExpectedConditions.urlToBe;
+
+public class AbstractPageObjectTest {
+    private final static String TEST_HTML = "" +
+            "<html>" +
+            "  <head></head>" +
+            "  <body>" +
+            "    <span id=\"login\">login</span>" +
+            "    <span id=\"password\">password</span>" +
+            "  </body>" +
+            "</html>";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    private File html;
+
+    @Before
+    public void beforeEachTest() throws IOException {
+        html = temporaryFolder.newFile("index.html");
+        Files.write(html.toPath(), TEST_HTML.getBytes());
+    }
+
+    @Test
+    public void propagateTimeoutExceptionIfUsingEventFiringWebdriverToEventListener() throws IOException {
+        EventFiringWebDriver   driver   = new EventFiringWebDriver(new HtmlUnitDriver());
+        WebDriverEventListener listener = new WebDriverEventListener();
+        driver.register(listener);
+
+        driver.get("file://" + html.getAbsolutePath());
+        new PageFactoryHelper(driver).initElements(Element.class);
+
+        assertThat(listener.getExceptions().size()).isEqualTo(1);
+        assertThat(listener.getExceptions().get(0)).isInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    public void dontSwallowTimeoutExceptionWhenNotUsingEventFiringWebdriver() throws IOException {
+        WebDriver driver = new HtmlUnitDriver();
+
+        driver.get("file://" + html.getAbsolutePath());
+        try {
+            new PageFactoryHelper(driver).initElements(Element.class);
+        } catch (Exception e) {
+            assertThat(e).hasCauseInstanceOf(TimeoutException.class);
+        }
+
+    }
+
+    @Test
+    public void propagateTimeoutExceptionToRegisteredFailureListener() throws IOException {
+        WebDriver       driver   = new HtmlUnitDriver();
+        List<Throwable> failures = new ArrayList<>();
+        DriverContext.of(driver).addFailureListener((failure, d) -> failures.add(failure));
+
+        driver.get("file://" + html.getAbsolutePath());
+        new PageFactoryHelper(driver).initElements(Element.class);
+
+        assertThat(failures).hasSize(1);
+        assertThat(failures.get(0)).isInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    public void keepRegisteredFailureListenerWithoutPageObjects() throws IOException {
+        WebDriver       driver   = new HtmlUnitDriver();
+        List<Throwable> failures = new ArrayList<>();
+        DriverContext.of(driver).addFailureListener((failure, d) -> failures.add(failure));
+
+        DriverContextTest.collectContextOf(driver);
+        driver.get("file://" + html.getAbsolutePath());
+        new PageFactoryHelper(driver).initElements(Element.class);
+
+        assertThat(failures).hasSize(1);
+        assertThat(failures.get(0)).isInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    public void propagateTimeoutExceptionToEventListenerAndRegisteredFailureListener() throws IOException {
+        EventFiringWebDriver   driver   = new EventFiringWebDriver(new HtmlUnitDriver());
+        WebDriverEventListener listener = new WebDriverEventListener();
+        List<Throwable>        failures = new ArrayList<>();
+        driver.register(listener);
+        DriverContext.of(driver).addFailureListener((failure, d) -> failures.add(failure));
+
+        driver.get("file://" + html.getAbsolutePath());
+        new PageFactoryHelper(driver).initElements(Element.class);
+
+        assertThat(listener.getExceptions()).hasSize(1);
+        assertThat(failures).containsExactlyElementsOf(listener.getExceptions());
+    }
+
+    @Test
+    public void propagateTimeoutExceptionOfAsyncWaitToEventListener() throws Exception {
+        EventFiringWebDriver   driver   = new EventFiringWebDriver(new HtmlUnitDriver());
+        WebDriverEventListener listener = new WebDriverEventListener();
+        driver.register(listener);
+
+        driver.get("file://" + html.getAbsolutePath());
+        CompletableFuture<Boolean> future = new Element(driver).waitForAsync(urlToBe("ss"),
+                                                                            WaitPolicy.DEFAULT.withTimeout(100,
+                                                                                                           TimeUnit.MILLISECONDS));
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail("should time out");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause()).isInstanceOf(TimeoutException.class);
+        }
+        assertThat(listener.getExceptions()).hasSize(1);
+        assertThat(listener.getExceptions().get(0)).isInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    public void initElementsAsync() throws Exception {
+        WebDriver driver = new HtmlUnitDriver();
+        driver.get("file://" + html.getAbsolutePath());
+
+        PlainElement element = new PageFactoryHelper(driver).initElementsAsync(PlainElement.class)
+                                                            .get(5, TimeUnit.SECONDS);
+
+        assertThat(element.getDriver()).isSameAs(driver);
+    }
+
+    @Test
+    public void initElementsAsyncCompletesAndPropagatesErrors() throws Exception {
+        WebDriver       driver   = new HtmlUnitDriver();
+        List<Throwable> failures = new ArrayList<>();
+        DriverContext.of(driver).addFailureListener((failure, d) -> failures.add(failure));
+
+        CompletableFuture<FailingElement> future = new PageFactoryHelper(driver).initElementsAsync(FailingElement.class);
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail("beforeInit fails");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause()).isInstanceOf(AssertionError.class);
+            assertThat(failures).containsExactly(e.getCause());
+        }
+    }
+
+    public static class WebDriverEventListener extends AbstractWebDriverEventListener {
+        @Getter
+        private List<Throwable> exceptions = new ArrayList<>();
+
+        @Override
+        public void onException(Throwable throwable, WebDriver driver) {
+            exceptions.add(throwable);
+        }
+    }
+
+    public static class Element extends AbstractPageObject {
+        public Element(WebDriver driver) {
+            super(driver);
+        }
+
+        @Override
+        public void beforeInit() {
+            waitFor(urlToBe("ss"), 1);
+        }
+    }
+
+    public static class PlainElement extends AbstractPageObject {
+        public PlainElement(WebDriver driver) {
+            super(driver);
+        }
+    }
+
+    public static class FailingElement extends AbstractPageObject {
+        public FailingElement(WebDriver driver) {
+            super(driver);
+        }
+
+        @Override
+        public void beforeInit() {
+            throw new AssertionError("not ready");
+        }
+    }
+}
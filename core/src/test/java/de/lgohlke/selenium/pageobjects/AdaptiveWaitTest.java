@@ -0,0 +1,206 @@
+package de.lgohlke.selenium.pageobjects;
+
+import org.junit.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+public class AdaptiveWaitTest {
+    private final WebDriver driver = mock(WebDriver.class);
+
+    @Test
+    public void shouldReturnImmediatelyIfConditionIsMet() {
+        long started = System.nanoTime();
+
+        String value = AdaptiveWait.until(driver, d -> "ok", WaitPolicy.DEFAULT);
+
+        assertThat(value).isEqualTo("ok");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(500);
+    }
+
+    @Test
+    public void shouldCheckAgainUntilConditionIsMet() {
+        AtomicInteger checks = new AtomicInteger();
+
+        Boolean value = AdaptiveWait.until(driver, d -> checks.incrementAndGet() == 3, WaitPolicy.DEFAULT);
+
+        assertThat(value).isTrue();
+        assertThat(checks.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldIgnoreNotFoundExceptionsUntilTimeout() {
+        WaitPolicy policy = WaitPolicy.DEFAULT.withTimeout(50, TimeUnit.MILLISECONDS);
+        try {
+            AdaptiveWait.until(driver, d -> {
+                throw new NoSuchElementException("missing");
+            }, policy);
+            fail("should time out");
+        } catch (TimeoutException e) {
+            assertThat(e).hasCauseInstanceOf(NoSuchElementException.class);
+            assertThat(e.getMessage()).startsWith("Timed out after 50 milliseconds");
+        }
+    }
+
+    @Test
+    public void shouldBackoffUpToMaxPolling() {
+        WaitPolicy policy = WaitPolicy.DEFAULT.withPolling(10, 50, TimeUnit.MILLISECONDS).withBackoff(2);
+
+        assertThat(policy.nextPolling(10)).isEqualTo(20);
+        assertThat(policy.nextPolling(20)).isEqualTo(40);
+        assertThat(policy.nextPolling(40)).isEqualTo(50);
+    }
+
+    @Test
+    public void shouldKeepPollingFixed() {
+        WaitPolicy policy = WaitPolicy.fixedPolling(15, 1, TimeUnit.SECONDS);
+
+        assertThat(policy.nextPolling(1000)).isEqualTo(1000);
+    }
+
+    @Test
+    public void shouldWaitForMutations() {
+        WebDriver     jsDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class)
+                                                                      .defaultAnswer(RETURNS_DEEP_STUBS));
+        AtomicInteger checks   = new AtomicInteger();
+        when(((JavascriptExecutor) jsDriver).executeAsyncScript(eq(AdaptiveWait.MUTATION_SCRIPT), any())).thenReturn(true);
+
+        AdaptiveWait.until(jsDriver, d -> checks.incrementAndGet() == 3, WaitPolicy.DEFAULT.withMutationDriven(true));
+
+        verify((JavascriptExecutor) jsDriver, times(2)).executeAsyncScript(eq(AdaptiveWait.MUTATION_SCRIPT), any());
+        verify(jsDriver.manage().timeouts(), times(0)).setScriptTimeout(anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    public void shouldRaiseScriptTimeoutWhenScriptTimedOutEarly() {
+        WebDriver jsDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class)
+                                                                  .defaultAnswer(RETURNS_DEEP_STUBS));
+        when(((JavascriptExecutor) jsDriver).executeAsyncScript(anyString(), any())).thenThrow(new TimeoutException())
+                                                                                   .thenReturn(true);
+
+        assertThat(AdaptiveWait.executeAsyncScript(jsDriver, 500, "script", 500)).isEqualTo(true);
+
+        verify(jsDriver.manage().timeouts(), times(1)).setScriptTimeout(1500, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void shouldNotLowerScriptTimeoutWhenScriptTimedOutLate() {
+        WebDriver jsDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class)
+                                                                  .defaultAnswer(RETURNS_DEEP_STUBS));
+        when(((JavascriptExecutor) jsDriver).executeAsyncScript(anyString(), any())).thenAnswer(invocation -> {
+            Thread.sleep(60);
+            throw new TimeoutException();
+        });
+
+        try {
+            AdaptiveWait.executeAsyncScript(jsDriver, 50, "script", 50);
+            fail("should time out");
+        } catch (TimeoutException e) {
+            verify(jsDriver.manage().timeouts(), times(0)).setScriptTimeout(anyLong(), any(TimeUnit.class));
+        }
+    }
+
+    @Test
+    public void shouldFallbackToPollingIfScriptFails() {
+        WebDriver     jsDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class)
+                                                                      .defaultAnswer(RETURNS_DEEP_STUBS));
+        AtomicInteger checks   = new AtomicInteger();
+        when(((JavascriptExecutor) jsDriver).executeAsyncScript(anyString(), any())).thenThrow(new WebDriverException());
+
+        AdaptiveWait.until(jsDriver, d -> checks.incrementAndGet() == 3, WaitPolicy.DEFAULT.withMutationDriven(true));
+
+        verify((JavascriptExecutor) jsDriver, times(1)).executeAsyncScript(anyString(), any());
+        assertThat(checks.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldCompleteAsyncWaitWhenConditionIsMet() throws Exception {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        AtomicInteger            checks   = new AtomicInteger();
+        try {
+            CompletableFuture<Boolean> future = AdaptiveWait.untilAsync(driver,
+                                                                        d -> checks.incrementAndGet() == 3,
+                                                                        WaitPolicy.DEFAULT,
+                                                                        executor);
+
+            assertThat(future.get(1, TimeUnit.SECONDS)).isTrue();
+            assertThat(checks.get()).isEqualTo(3);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldTimeoutAsyncWait() throws Exception {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        WaitPolicy               policy   = WaitPolicy.DEFAULT.withTimeout(50, TimeUnit.MILLISECONDS);
+        try {
+            AdaptiveWait.untilAsync(driver, d -> false, policy, executor).get(1, TimeUnit.SECONDS);
+            fail("should time out");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause()).isInstanceOf(TimeoutException.class);
+            assertThat(e.getCause().getMessage()).startsWith("Timed out after 50 milliseconds");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldCompleteAsyncWaitWhenConditionThrowsError() throws Exception {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            AdaptiveWait.untilAsync(driver, d -> {
+                throw new AssertionError("broken condition");
+            }, WaitPolicy.DEFAULT, executor).get(1, TimeUnit.SECONDS);
+            fail("should fail");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause()).isInstanceOf(AssertionError.class).hasMessage("broken condition");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldStopPollingWhenAsyncWaitIsCancelled() throws Exception {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        AtomicInteger            checks   = new AtomicInteger();
+        WaitPolicy               policy   = WaitPolicy.fixedPolling(15, 10, TimeUnit.MILLISECONDS);
+        try {
+            CompletableFuture<Boolean> future = AdaptiveWait.untilAsync(driver,
+                                                                        d -> checks.incrementAndGet() < 0,
+                                                                        policy,
+                                                                        executor);
+            Thread.sleep(50);
+            future.cancel(true);
+            Thread.sleep(20);
+            int checksAfterCancel = checks.get();
+            Thread.sleep(50);
+
+            assertThat(checks.get()).isEqualTo(checksAfterCancel);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
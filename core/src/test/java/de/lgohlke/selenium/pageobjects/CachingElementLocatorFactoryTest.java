@@ -0,0 +1,135 @@
+package de.lgohlke.selenium.pageobjects;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.How;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class CachingElementLocatorFactoryTest {
+    private final static String TEST_HTML = "" +
+            "<!DOCTYPE html>" +
+            "<html>" +
+            "  <head></head>" +
+            "  <body>" +
+            "    <span id=\"login\">login</span>" +
+            "  </body>" +
+            "</html>";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    private HtmlUnitDriver       wrappedDriver;
+    private EventFiringWebDriver driver;
+    private PageFactoryHelper    pageFactoryHelper;
+
+    @Before
+    public void beforeEachTest() throws IOException {
+        File html = temporaryFolder.newFile("index.html");
+        Files.write(html.toPath(), TEST_HTML.getBytes());
+        wrappedDriver = spy(new HtmlUnitDriver(true));
+        driver = new EventFiringWebDriver(wrappedDriver);
+        DriverContext.of(driver).startNavigationTracking();
+        driver.get(html.toURI().toString());
+
+        pageFactoryHelper = new PageFactoryHelper(driver);
+        pageFactoryHelper.setElementLocatorFactory(new CachingElementLocatorFactory(driver));
+        Mockito.reset(wrappedDriver);
+    }
+
+    @Test
+    public void shouldLookupElementOnlyOnce() {
+        IndexPage page = pageFactoryHelper.initElements(IndexPage.class);
+
+        page.getLogin().getText();
+        page.getLogin().getText();
+
+        verify(wrappedDriver, times(1)).findElement(any(By.class));
+    }
+
+    @Test
+    public void shouldLookupElementAgainAfterNavigation() {
+        IndexPage page = pageFactoryHelper.initElements(IndexPage.class);
+
+        page.getLogin().getText();
+        driver.navigate().refresh();
+        page.getLogin().getText();
+
+        verify(wrappedDriver, times(2)).findElement(any(By.class));
+    }
+
+    @Test
+    public void shouldLookupStaleElementAgain() {
+        IndexPage page = pageFactoryHelper.initElements(IndexPage.class);
+        page.getLogin().getText();
+
+        // not observed by the event listeners
+        wrappedDriver.executeScript("document.body.innerHTML = '<span id=\"login\">replaced</span>'");
+
+        assertThat(page.getLogin().getText()).isEqualTo("replaced");
+        verify(wrappedDriver, times(2)).findElement(any(By.class));
+    }
+
+    @Test
+    public void shouldCheckPresenceOfCachingElements() {
+        IndexPage page = pageFactoryHelper.initElements(IndexPage.class);
+
+        assertThat(new PageObjectHelper(driver).arePresent(page.getLogin(), page.getMissing()).toString())
+                .isEqualTo("{0}");
+    }
+
+    @Test
+    public void shouldLookupListOfElementsEveryTime() {
+        IndexPage page = pageFactoryHelper.initElements(IndexPage.class);
+        assertThat(page.getSpans()).hasSize(1);
+
+        // not observed by the event listeners
+        wrappedDriver.executeScript("document.body.appendChild(document.createElement('span'))");
+
+        assertThat(page.getSpans()).hasSize(2);
+    }
+
+    public static class IndexPage extends AbstractPageObject {
+        @FindBy(how = How.CSS, using = "#login")
+        private WebElement login;
+
+        @FindBy(how = How.CSS, using = "#missing")
+        private WebElement missing;
+
+        @FindBy(how = How.TAG_NAME, using = "span")
+        private List<WebElement> spans;
+
+        public IndexPage(WebDriver driver) {
+            super(driver);
+        }
+
+        public WebElement getLogin() {
+            return login;
+        }
+
+        public WebElement getMissing() {
+            return missing;
+        }
+
+        public List<WebElement> getSpans() {
+            return spans;
+        }
+    }
+}
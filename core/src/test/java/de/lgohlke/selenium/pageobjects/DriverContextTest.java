@@ -0,0 +1,111 @@
+package de.lgohlke.selenium.pageobjects;
+
+import org.junit.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DriverContextTest {
+    private final WebDriver driver = new HtmlUnitDriver();
+
+    @Test
+    public void shouldShareContextPerDriver() {
+        assertThat(DriverContext.of(driver)).isSameAs(DriverContext.of(driver));
+        assertThat(DriverContext.of(driver)).isNotSameAs(DriverContext.of(new HtmlUnitDriver()));
+    }
+
+    @Test
+    public void shouldShareContextOfPageObjects() {
+        Menu first  = new Menu(driver);
+        Menu second = new Menu(driver);
+
+        assertThat(first.getContext()).isSameAs(second.getContext());
+        assertThat(first.getHelper()).isSameAs(second.getHelper());
+    }
+
+    @Test
+    public void shouldKeepSettingsPerPageObject() {
+        Menu first  = new Menu(driver);
+        Menu second = new Menu(driver);
+
+        first.getPageFactoryHelper().setValidationPolicy(ValidationPolicy.OFF);
+        first.setWaitPolicy(WaitPolicy.DEFAULT.withTimeout(1, TimeUnit.SECONDS));
+
+        assertThat(first.getPageFactoryHelper()).isNotSameAs(second.getPageFactoryHelper());
+        assertThat(second.getPageFactoryHelper().getValidationPolicy()).isEqualTo(ValidationPolicy.FULL);
+        assertThat(second.getWaitPolicy()).isEqualTo(WaitPolicy.DEFAULT);
+    }
+
+    @Test
+    public void shouldNotShareContextWithoutDriver() {
+        assertThat(DriverContext.of(null)).isNotSameAs(DriverContext.of(null));
+    }
+
+    @Test
+    public void shouldApplyMetricsToHelpersOfPageObjects() {
+        InMemoryPageObjectMetrics metrics = new InMemoryPageObjectMetrics();
+
+        DriverContext.of(driver).setMetrics(metrics);
+
+        assertThat(new Menu(driver).getPageFactoryHelper().getMetrics()).isSameAs(metrics);
+    }
+
+    @Test
+    public void shouldKeepRegisteredStateWhenContextIsCollected() {
+        List<Throwable>           failures = new ArrayList<>();
+        InMemoryPageObjectMetrics metrics  = new InMemoryPageObjectMetrics();
+        DriverContext.of(driver).addFailureListener((failure, d) -> failures.add(failure));
+        DriverContext.of(driver).setMetrics(metrics);
+
+        collectContextOf(driver);
+
+        RuntimeException failure = new RuntimeException("failed");
+        DriverContext.of(driver).propagateFailure(failure);
+        assertThat(failures).containsExactly(failure);
+        assertThat(DriverContext.of(driver).getMetrics()).isSameAs(metrics);
+    }
+
+    @Test
+    public void shouldCollectDriverWithRegisteredState() {
+        WebDriver                driver    = new HtmlUnitDriver();
+        WeakReference<WebDriver> reference = new WeakReference<>(driver);
+        DriverContext.of(driver).addFailureListener((failure, d) -> {
+        });
+
+        driver = null;
+        gcUntilCleared(reference);
+
+        assertThat(reference.get()).isNull();
+    }
+
+    /**
+     * drops the context of the driver, there is no other reference to it
+     */
+    static void collectContextOf(WebDriver driver) {
+        gcUntilCleared(new WeakReference<>(DriverContext.of(driver)));
+    }
+
+    private static void gcUntilCleared(WeakReference<?> reference) {
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        assertThat(reference.get()).as("collected").isNull();
+    }
+
+    public static class Menu extends AbstractPageObject {
+        public Menu(WebDriver driver) {
+            super(driver);
+        }
+    }
+}
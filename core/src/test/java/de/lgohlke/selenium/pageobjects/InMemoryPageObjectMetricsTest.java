@@ -0,0 +1,60 @@
+package de.lgohlke.selenium.pageobjects;
+
+import de.lgohlke.selenium.pageobjects.InMemoryPageObjectMetrics.Histogram;
+import org.junit.Test;
+import org.openqa.selenium.WebDriver;
+
+import static de.lgohlke.selenium.pageobjects.PageObjectMetrics.Phase.INIT_ELEMENTS;
+import static de.lgohlke.selenium.pageobjects.PageObjectMetrics.Phase.VALIDATION;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InMemoryPageObjectMetricsTest {
+    private final InMemoryPageObjectMetrics metrics = new InMemoryPageObjectMetrics();
+
+    @Test
+    public void shouldAggregatePhases() {
+        metrics.recordPhase(Menu.class, INIT_ELEMENTS, 1000, 2);
+        metrics.recordPhase(Menu.class, INIT_ELEMENTS, 3000, 4);
+
+        assertThat(metrics.getNanos(Menu.class, INIT_ELEMENTS).getCount()).isEqualTo(2);
+        assertThat(metrics.getNanos(Menu.class, INIT_ELEMENTS).getMean()).isEqualTo(2000);
+        assertThat(metrics.getNanos(Menu.class, INIT_ELEMENTS).getMax()).isEqualTo(3000);
+        assertThat(metrics.getCommands(Menu.class, INIT_ELEMENTS).getSum()).isEqualTo(6);
+        assertThat(metrics.getNanos(Menu.class, VALIDATION).getCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldIgnoreUncountedCommands() {
+        metrics.recordPhase(Menu.class, INIT_ELEMENTS, 1000, -1);
+
+        assertThat(metrics.getCommands(Menu.class, INIT_ELEMENTS).getCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldApproximatePercentilesWithBucketBounds() {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+
+        assertThat(histogram.getPercentile(50)).isEqualTo(63);
+        assertThat(histogram.getPercentile(99)).isEqualTo(100);
+        assertThat(histogram.getPercentile(0)).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldDumpPhasesAndFailures() {
+        metrics.recordPhase(Menu.class, VALIDATION, 2_000_000, 1);
+        metrics.recordValidationFailures(Menu.class, 3);
+
+        assertThat(metrics.dump()).contains(Menu.class.getName() + " ")
+                                  .contains("VALIDATION")
+                                  .contains("3 validation failures");
+    }
+
+    public static class Menu extends AbstractPageObject {
+        public Menu(WebDriver driver) {
+            super(driver);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package de.lgohlke.selenium.pageobjects;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class NavigationTrackerTest {
+    private final static String TEST_HTML = "" +
+            "<html>" +
+            "  <head></head>" +
+            "  <body>" +
+            "    <span id=\"login\">login</span>" +
+            "  </body>" +
+            "</html>";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    private File      html;
+    private File      otherHtml;
+    private WebDriver wrappedDriver;
+
+    @Before
+    public void beforeEachTest() throws IOException {
+        html = temporaryFolder.newFile("index.html");
+        Files.write(html.toPath(), TEST_HTML.getBytes());
+        otherHtml = temporaryFolder.newFile("other.html");
+        Files.write(otherHtml.toPath(), TEST_HTML.getBytes());
+        wrappedDriver = spy(new HtmlUnitDriver());
+    }
+
+    @Test
+    public void shouldNavigateByTrackedUrl() {
+        EventFiringWebDriver driver = new EventFiringWebDriver(wrappedDriver);
+        DriverContext.of(driver).startNavigationTracking();
+        driver.get(html.toURI().toString());
+        Mockito.reset(wrappedDriver);
+
+        PageFactoryHelper pageFactoryHelper = new PageFactoryHelper(driver);
+        pageFactoryHelper.initElements(IndexPage.class);
+        pageFactoryHelper.initElements(OtherPage.class);
+
+        verify(wrappedDriver, times(1)).getCurrentUrl();
+        verify(wrappedDriver, times(1)).get(otherHtml.toURI().toString());
+    }
+
+    @Test
+    public void shouldNotSkipNavigationAfterNotObservedNavigation() {
+        EventFiringWebDriver driver = new EventFiringWebDriver(wrappedDriver);
+        DriverContext.of(driver).startNavigationTracking();
+        driver.get(html.toURI().toString());
+
+        PageFactoryHelper pageFactoryHelper = new PageFactoryHelper(driver);
+        pageFactoryHelper.initElements(IndexPage.class);
+        // like a submit or a redirect by a script
+        wrappedDriver.get(otherHtml.toURI().toString());
+        Mockito.reset(wrappedDriver);
+        pageFactoryHelper.initElements(IndexPage.class);
+
+        verify(wrappedDriver, times(1)).get(html.toURI().toString());
+    }
+
+    @Test
+    public void shouldRequestCurrentUrlAgainAfterNavigation() {
+        EventFiringWebDriver driver = new EventFiringWebDriver(wrappedDriver);
+        DriverContext.of(driver).startNavigationTracking();
+        driver.get(html.toURI().toString());
+        Mockito.reset(wrappedDriver);
+
+        PageFactoryHelper pageFactoryHelper = new PageFactoryHelper(driver);
+        pageFactoryHelper.initElements(IndexPage.class);
+        driver.navigate().refresh();
+        driver.navigate().to(html.toURI().toString());
+        pageFactoryHelper.initElements(IndexPage.class);
+
+        verify(wrappedDriver, times(2)).getCurrentUrl();
+    }
+
+    @Test
+    public void shouldRequestCurrentUrlAgainAfterInvalidation() {
+        EventFiringWebDriver driver = new EventFiringWebDriver(wrappedDriver);
+        DriverContext.of(driver).startNavigationTracking();
+        driver.get(html.toURI().toString());
+        Mockito.reset(wrappedDriver);
+
+        PageFactoryHelper pageFactoryHelper = new PageFactoryHelper(driver);
+        pageFactoryHelper.initElements(IndexPage.class);
+        pageFactoryHelper.invalidateNavigationState();
+        pageFactoryHelper.initElements(IndexPage.class);
+
+        verify(wrappedDriver, times(2)).getCurrentUrl();
+    }
+
+    @Test
+    public void shouldSaveCurrentUrlRequestOnlyWhenTracking() {
+        EventFiringWebDriver driver = new EventFiringWebDriver(wrappedDriver);
+        driver.get(html.toURI().toString());
+        Mockito.reset(wrappedDriver);
+
+        PageFactoryHelper pageFactoryHelper = new PageFactoryHelper(driver);
+        pageFactoryHelper.initElements(IndexPage.class);
+        pageFactoryHelper.initElements(OtherPage.class);
+        verify(wrappedDriver, times(2)).getCurrentUrl();
+
+        DriverContext.of(driver).startNavigationTracking();
+        driver.get(html.toURI().toString());
+        Mockito.reset(wrappedDriver);
+        pageFactoryHelper.initElements(IndexPage.class);
+        pageFactoryHelper.initElements(OtherPage.class);
+        verify(wrappedDriver, times(1)).getCurrentUrl();
+    }
+
+    @Test
+    public void shouldStopTracking() {
+        EventFiringWebDriver driver = new EventFiringWebDriver(wrappedDriver);
+        DriverContext.of(driver).startNavigationTracking();
+        DriverContext.of(driver).stopNavigationTracking();
+        driver.get(html.toURI().toString());
+        Mockito.reset(wrappedDriver);
+
+        PageFactoryHelper pageFactoryHelper = new PageFactoryHelper(driver);
+        pageFactoryHelper.initElements(IndexPage.class);
+        long generation = NavigationTracker.of(driver).getGeneration();
+        driver.navigate().refresh();
+
+        assertThat(NavigationTracker.of(driver).isTracking()).isFalse();
+        assertThat(NavigationTracker.of(driver).getGeneration()).isEqualTo(generation);
+        pageFactoryHelper.initElements(OtherPage.class);
+        verify(wrappedDriver, times(2)).getCurrentUrl();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldNotTrackNotObservableDriver() {
+        DriverContext.of(wrappedDriver).startNavigationTracking();
+    }
+
+    @Test
+    public void shouldAlwaysRequestCurrentUrlOfNotObservableDriver() {
+        wrappedDriver.get(html.toURI().toString());
+        Mockito.reset(wrappedDriver);
+
+        PageFactoryHelper pageFactoryHelper = new PageFactoryHelper(wrappedDriver);
+        pageFactoryHelper.initElements(IndexPage.class);
+        pageFactoryHelper.initElements(IndexPage.class);
+
+        verify(wrappedDriver, times(2)).getCurrentUrl();
+    }
+
+    @Test
+    public void shouldResolveRelativeLocation() {
+        assertThat(NavigationTracker.resolve("http://localhost/a/b.html", "c.html")).isEqualTo("http://localhost/a/c.html");
+        assertThat(NavigationTracker.resolve("http://localhost/a/b.html", "/c.html")).isEqualTo("http://localhost/c.html");
+    }
+
+    public static class IndexPage extends AbstractPageObject implements Page {
+        public IndexPage(WebDriver driver) {
+            super(driver);
+        }
+
+        @Override
+        public String getLocation() {
+            return "index.html";
+        }
+    }
+
+    public static class OtherPage extends AbstractPageObject implements Page {
+        public OtherPage(WebDriver driver) {
+            super(driver);
+        }
+
+        @Override
+        public String getLocation() {
+            return "other.html";
+        }
+    }
+}
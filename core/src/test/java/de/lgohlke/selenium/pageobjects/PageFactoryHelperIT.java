@@ -0,0 +1,832 @@
+package de.lgohlke.selenium.pageobjects;
+
+import com.googlecode.junittoolbox.ParallelRunner;
+import de.lgohlke.junit.HttpServerFromResource;
+import de.lgohlke.selenium.webdriver.DriverType;
+import de.lgohlke.selenium.webdriver.junit.DriverService;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.How;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+@RunWith(ParallelRunner.class)
+@Slf4j
+public class PageFactoryHelperIT {
+    @Rule
+    public final DriverService          driverService          = new DriverService(DriverType.PHANTOMJS);
+    @Rule
+    public       HttpServerFromResource httpServerFromResource = new HttpServerFromResource("/");
+
+    private WebDriver         driver;
+    private PageFactoryHelper pageFactoryHelper;
+
+    @Before
+    public void beforeEachTest() throws IOException {
+        driver = spy(driverService.getDriver());
+        pageFactoryHelper = new PageFactoryHelper(driver);
+        Mockito.reset(driver);
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + httpServerFromResource.getPort() + path;
+    }
+
+    @Test
+    public void testFindingValidateAnnotations() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+
+        LoginPage page = pageFactoryHelper.initElements(LoginPage.class);
+
+        assertThat(page.credentials()).isEqualTo("login password");
+    }
+
+    @Test
+    public void testBeforeInit() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+
+        LoginPage page = pageFactoryHelper.initElements(LoginPage.class);
+
+        assertThat(page.isInitialized()).isTrue();
+    }
+
+    @Test
+    public void testOrderOfHierarchicalBeforeInit() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+
+        ParentPage page = pageFactoryHelper.initElements(ParentPage.class);
+
+        assertThat(page.getTimestamp()).isGreaterThan(page.getMenu().getTimestamp());
+    }
+
+    @Test
+    public void initFieldsWhichArePageObjects() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+
+        LoginPage page = pageFactoryHelper.initElements(LoginPage.class);
+
+        assertThat(page.getMenu()).isNotNull();
+        assertThat(page.getMenu().getMenuText()).isEqualTo("menu");
+    }
+
+    @Test
+    public void shouldInitLazyPageObjectOnFirstUse() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+
+        PageWithLazyMenu page = pageFactoryHelper.initElements(PageWithLazyMenu.class);
+
+        assertThat(page.getMenu().isInitialized()).isFalse();
+        assertThat(page.getMenu().get().getMenuText()).isEqualTo("menu");
+        assertThat(page.getMenu().isInitialized()).isTrue();
+    }
+
+    @Test
+    public void shouldInitValidatedLazyPageObjectEagerly() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+
+        PageWithLazyMenu page = pageFactoryHelper.initElements(PageWithLazyMenu.class);
+
+        assertThat(page.getValidatedMenu().isInitialized()).isTrue();
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldValidateLazyPageObjectOnFirstUse() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+
+        PageWithLazyMenu page = pageFactoryHelper.initElements(PageWithLazyMenu.class);
+
+        page.getFailingMenu().get();
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testFindingValidateAnnotationsAndDetectErrors() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+
+        pageFactoryHelper.initElements(LoginPageFail.class);
+    }
+
+    @Test
+    public void shouldValidateAllFieldsWithOneScript() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+        pageFactoryHelper.setBatchValidation(true);
+        Mockito.reset(driver);
+
+        pageFactoryHelper.initElements(LoginPage.class, true);
+
+        verify((JavascriptExecutor) driver, times(1)).executeScript(any(String.class), any());
+        verify(driver, times(0)).findElement(any(By.class));
+    }
+
+    @Test
+    public void shouldReportFailedFieldsOfBatchValidation() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+        pageFactoryHelper.setBatchValidation(true);
+
+        try {
+            pageFactoryHelper.initElements(LoginPageFail.class, true);
+            fail("validation should fail");
+        } catch (NoSuchElementException e) {
+            assertThat(e.getMessage()).contains("LoginPageFail.passwordInput failed with findby");
+            assertThat(e.getMessage()).doesNotContain("LoginPage.usernameInput");
+        }
+    }
+
+    @Test
+    public void shouldValidateWholeTreeWithOneScript() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+        pageFactoryHelper.setBatchValidation(true);
+        Mockito.reset(driver);
+
+        pageFactoryHelper.initElements(LoginPage.class);
+
+        verify((JavascriptExecutor) driver, times(1)).executeScript(any(String.class), any());
+    }
+
+    @Test
+    public void shouldReportFailedFieldsOfNestedPageObjectsWithOwningClass() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+        pageFactoryHelper.setBatchValidation(true);
+
+        try {
+            pageFactoryHelper.initElements(PageWithFailingMenu.class);
+            fail("validation should fail");
+        } catch (NoSuchElementException e) {
+            assertThat(e.getMessage()).contains("FailingMenu.menu failed with findby");
+            assertThat(e.getMessage()).contains("PageWithFailingMenu.passwordInput failed with findby");
+        }
+    }
+
+    @Test
+    public void shouldRecordMetricsOfAllPhases() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+        InMemoryPageObjectMetrics metrics = new InMemoryPageObjectMetrics();
+        pageFactoryHelper.setMetrics(metrics);
+
+        pageFactoryHelper.initElements(ParentPage.class);
+
+        assertThat(metrics.getNanos(ParentPage.class, PageObjectMetrics.Phase.INIT_ELEMENTS).getCount()).isEqualTo(1);
+        assertThat(metrics.getNanos(ParentPage.class, PageObjectMetrics.Phase.NESTED_INIT).getCount()).isEqualTo(1);
+        assertThat(metrics.getNanos(ParentPage.class, PageObjectMetrics.Phase.BEFORE_INIT).getCount()).isEqualTo(1);
+        assertThat(metrics.getNanos(ParentPage.class, PageObjectMetrics.Phase.VALIDATION).getCount()).isEqualTo(1);
+        assertThat(metrics.getNanos(PageMenu.class, PageObjectMetrics.Phase.INIT_ELEMENTS).getCount()).isEqualTo(1);
+        assertThat(metrics.getNanos(PageMenu.class, PageObjectMetrics.Phase.VALIDATION).getCount()).isEqualTo(0);
+        assertThat(metrics.dump()).contains(ParentPage.class.getName());
+    }
+
+    @Test
+    public void shouldRecordValidationFailuresPerOwningClass() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+        InMemoryPageObjectMetrics metrics = new InMemoryPageObjectMetrics();
+        pageFactoryHelper.setMetrics(metrics);
+
+        try {
+            pageFactoryHelper.initElements(PageWithFailingMenu.class);
+            fail("validation should fail");
+        } catch (NoSuchElementException e) {
+            assertThat(metrics.getValidationFailures(FailingMenu.class)).isEqualTo(1);
+            assertThat(metrics.getValidationFailures(PageWithFailingMenu.class)).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void shouldTraceNestedInitialization() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+        PageObjectTracer tracer = PageObjectTracer.start(1000);
+        try {
+            pageFactoryHelper.initElements(ParentPage.class);
+        } finally {
+            PageObjectTracer.stop();
+        }
+
+        assertThat(tracer.getSpans().stream().map(PageObjectTracer.Span::getName).collect(toList()))
+                .containsSubsequence("initElements PageMenu", "ParentPage NESTED_INIT", "ParentPage BEFORE_INIT",
+                                     "initElements ParentPage", "ParentPage VALIDATION");
+    }
+
+    @Test
+    public void shouldReinitInPlace() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+        ParentPage page           = pageFactoryHelper.initElements(ParentPage.class);
+        PageMenu   menu           = page.getMenu();
+        long       firstTimestamp = page.getTimestamp();
+
+        pageFactoryHelper.reinitElements(page);
+
+        assertThat(page.getMenu()).isSameAs(menu);
+        assertThat(page.getTimestamp()).isGreaterThan(firstTimestamp);
+        assertThat(page.getTimestamp()).isGreaterThan(menu.getTimestamp());
+    }
+
+    @Test
+    public void shouldRevalidateOnReinit() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+        LoginPage page = pageFactoryHelper.initElements(LoginPage.class);
+        ((JavascriptExecutor) driver).executeScript("document.body.innerHTML = ''");
+
+        try {
+            pageFactoryHelper.reinitElements(page);
+            fail("validation should fail");
+        } catch (NoSuchElementException e) {
+            assertThat(e.getMessage()).contains("LoginPage.usernameInput failed with findby");
+        }
+    }
+
+    @Test
+    public void shouldReuseCachedPageObjects() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+        pageFactoryHelper.setPageCacheSize(1);
+
+        ParentPage first = pageFactoryHelper.getOrInitElements(ParentPage.class);
+        ParentPage again = pageFactoryHelper.getOrInitElements(ParentPage.class);
+        pageFactoryHelper.getOrInitElements(LoginPage.class);
+        ParentPage evicted = pageFactoryHelper.getOrInitElements(ParentPage.class);
+
+        assertThat(again).isSameAs(first);
+        assertThat(evicted).isNotSameAs(first);
+    }
+
+    @Test
+    public void shouldNotCachePageObjectsByDefault() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+
+        assertThat(pageFactoryHelper.getOrInitElements(ParentPage.class))
+                .isNotSameAs(pageFactoryHelper.getOrInitElements(ParentPage.class));
+    }
+
+    @Test
+    public void shouldInitSharedPageObjectsOncePerTree() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+
+        PageWithSharedMenu page = pageFactoryHelper.initElements(PageWithSharedMenu.class);
+
+        assertThat(page.getHeader().getMenu()).isSameAs(page.getSidebar().getMenu());
+        assertThat(page.getHeader().getMenu().getBeforeInitCalls()).isEqualTo(1);
+        assertThat(pageFactoryHelper.initElements(PageWithSharedMenu.class).getHeader().getMenu())
+                .isNotSameAs(page.getHeader().getMenu());
+    }
+
+    @Test
+    public void shouldReportCyclicReferencesWithFieldPath() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+
+        try {
+            pageFactoryHelper.initElements(CyclicPage.class);
+            fail("cycle should be detected");
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage()).contains("CyclicPage.menu -> CyclicMenu.page -> CyclicPage");
+        }
+    }
+
+    @Test
+    public void shouldValidateOneByOneWithoutBatchValidation() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+        Mockito.reset(driver);
+        pageFactoryHelper.setBatchValidation(false);
+
+        pageFactoryHelper.initElements(LoginPage.class, true);
+
+        verify((JavascriptExecutor) driver, times(0)).executeScript(any(String.class), any());
+    }
+
+    @Test
+    public void shouldNotValidateWhenPolicyIsOff() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+        pageFactoryHelper.setValidationPolicy(LoginPageFail.class, ValidationPolicy.OFF);
+
+        LoginPageFail page = pageFactoryHelper.initElements(LoginPageFail.class);
+
+        assertThat(page.isInitialized()).isTrue();
+    }
+
+    @Test
+    public void shouldValidateEveryNthInitWhenSampled() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+        pageFactoryHelper.setValidationPolicy(LoginPageFail.class, ValidationPolicy.sampled(3));
+
+        int failures = 0;
+        for (int i = 0; i < 6; i++) {
+            try {
+                pageFactoryHelper.initElements(LoginPageFail.class);
+            } catch (NoSuchElementException e) {
+                assertThat(e.getMessage()).contains("LoginPageFail.passwordInput failed with findby");
+                failures++;
+            }
+        }
+
+        assertThat(failures).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldValidateOnFirstUseWhenDeferred() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+        pageFactoryHelper.setValidationPolicy(ValidationPolicy.DEFERRED);
+
+        LoginPageFail page = pageFactoryHelper.initElements(LoginPageFail.class);
+
+        try {
+            page.credentials();
+            fail("validation should fail on first use");
+        } catch (NoSuchElementException e) {
+            assertThat(e.getMessage()).contains("LoginPageFail.passwordInput failed with findby");
+        }
+        assertThat(page.credentials()).isNotNull();
+    }
+
+    @Test
+    public void shouldValidateNumberOfListElementsWithOneScript() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+        pageFactoryHelper.setBatchValidation(true);
+        Mockito.reset(driver);
+
+        SpanListPage page = pageFactoryHelper.initElements(SpanListPage.class);
+
+        verify((JavascriptExecutor) driver, times(1)).executeScript(any(String.class), any());
+        verify(driver, times(0)).findElements(any(By.class));
+        assertThat(page.getSpans()).hasSize(2);
+    }
+
+    @Test
+    public void shouldReportNumberOfListElements() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+
+        try {
+            pageFactoryHelper.initElements(TooFewSpansPage.class);
+            fail("validation should fail");
+        } catch (NoSuchElementException e) {
+            assertThat(e.getMessage()).contains("TooFewSpansPage.spans failed with findby")
+                                      .contains("found 2 elements using By.cssSelector: span, expected 3 or more");
+        }
+    }
+
+    @Test
+    public void shouldValidateNumberOfListElementsOneByOneWithOneLookup() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+        Mockito.reset(driver);
+        pageFactoryHelper.setBatchValidation(false);
+
+        try {
+            pageFactoryHelper.initElements(TooFewSpansPage.class);
+            fail("validation should fail");
+        } catch (NoSuchElementException e) {
+            assertThat(e.getMessage()).contains("found 2 elements using By.cssSelector: span, expected 3 or more");
+        }
+        verify(driver, times(1)).findElements(any(By.class));
+    }
+
+    @Test
+    public void shouldBuildComponentListFromOneLookup() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+        Mockito.reset(driver);
+
+        LabelListPage page = pageFactoryHelper.initElements(LabelListPage.class);
+
+        verify(driver, times(1)).findElements(By.tagName("span"));
+        assertThat(page.getLabels().stream().map(Label::text).collect(toList())).containsExactly("login", "password");
+    }
+
+    @Test
+    public void shouldNotValidateComponentListsOfFlatInit() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+        pageFactoryHelper.setBatchValidation(true);
+
+        ValidatedLabelListPage page = pageFactoryHelper.initElements(ValidatedLabelListPage.class, true);
+
+        assertThat(page.getLabels()).isNull();
+        try {
+            pageFactoryHelper.initElements(ValidatedLabelListPage.class);
+            fail("validation should fail");
+        } catch (NoSuchElementException e) {
+            assertThat(e.getMessage()).contains("found 2 elements using By.tagName: span, expected 3 or more");
+        }
+    }
+
+    @Test
+    public void shouldValidateComponentsWithinTheirRoot() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+
+        try {
+            pageFactoryHelper.initElements(FailingLabelListPage.class);
+            fail("validation should fail");
+        } catch (NoSuchElementException e) {
+            assertThat(e.getMessage()).contains("FailingLabel.child failed with findby");
+        }
+    }
+
+    @Test
+    public void shouldInitNestedPageObjectsOfComponents() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+
+        MenuLabelListPage page = pageFactoryHelper.initElements(MenuLabelListPage.class);
+
+        assertThat(page.getLabels()).hasSize(2);
+        for (MenuLabel label : page.getLabels()) {
+            assertThat(label.getMenu().getMenuText()).isEqualTo("menu");
+            assertThat(label.getLazyMenu().get().getMenuText()).isEqualTo("menu");
+        }
+    }
+
+    @Test
+    public void shouldLocateFieldsOfComponentsByCachingLocatorFactory() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+        pageFactoryHelper.setElementLocatorFactory(new CachingElementLocatorFactory(driver));
+
+        LabelListPage page = pageFactoryHelper.initElements(LabelListPage.class);
+
+        assertThat(page.getLabels().stream().map(Label::text).collect(toList())).containsExactly("login", "password");
+        Label label = page.getLabels().get(0);
+        assertThat(Proxy.getInvocationHandler(label.getSelf())).isInstanceOf(CachingFieldDecorator.Handler.class);
+    }
+
+    @Test
+    public void shouldDeferValidationOfComponents() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+        pageFactoryHelper.setValidationPolicy(FailingLabel.class, ValidationPolicy.DEFERRED);
+
+        FailingLabelListPage page = pageFactoryHelper.initElements(FailingLabelListPage.class);
+
+        try {
+            page.getLabels().get(0).child();
+            fail("validation should fail on first use");
+        } catch (NoSuchElementException e) {
+            assertThat(e.getMessage()).contains("FailingLabel.child failed with findby");
+        }
+    }
+
+    @Test
+    public void shouldNotOpenLocationWhenLocationIsEmpty() {
+        pageFactoryHelper.initElements(PageNoLocation.class);
+
+        verify(driver, times(0)).get(any(String.class));
+    }
+
+    @Test
+    public void shouldFlatInitElements() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+        ParentPage page = pageFactoryHelper.initElements(ParentPage.class, true);
+
+        assertThat(page.getMenu()).isNull();
+    }
+
+    @Test
+    public void shouldOpenLocationWhenLocationIsNotEmpty() {
+        pageFactoryHelper.initElements(PageWithLocation.class);
+
+        verify(driver, times(1)).get(any(String.class));
+    }
+
+    @Test
+    public void shouldNotOpenLocationAnotherTimeIfItIsAlreadyOpened() {
+        pageFactoryHelper.initElements(PageWithLocation.class);
+        pageFactoryHelper.initElements(PageWithLocation.class);
+
+        verify(driver, times(1)).get(any(String.class));
+    }
+
+    @Test
+    public void shouldOpenRelativeLocation() {
+        driver.get(url("/PageFactoryHelperTest.html"));
+        Mockito.reset(driver);
+
+        pageFactoryHelper.initElements(PageRelativeLocation.class);
+
+        String location = new PageRelativeLocation(driver).getLocation();
+        verify(driver, times(1)).get(url(location));
+    }
+
+    public static class PageRelativeLocation extends AbstractPageObject implements Page {
+        public PageRelativeLocation(WebDriver driver) {
+            super(driver);
+        }
+
+        @Override
+        public String getLocation() {
+            return "/index.html";
+        }
+    }
+
+    public static class PageNoLocation extends AbstractPageObject implements Page {
+        public PageNoLocation(WebDriver driver) {
+            super(driver);
+        }
+
+        @Override
+        public String getLocation() {
+            return "";
+        }
+    }
+
+    public static class PageWithLocation extends AbstractPageObject implements Page {
+        @FindBy(how = How.CSS, using = "body")
+        @ValidatePageObjectOnInit
+        private WebElement directoryTable;
+
+        public PageWithLocation(WebDriver driver) {
+            super(driver);
+        }
+
+        @Override
+        public String getLocation() {
+            return "http://www.google.de/";
+        }
+    }
+
+    public static class ParentPage extends AbstractPageObject {
+        @FindBy(how = How.CSS, using = "#login")
+        @ValidatePageObjectOnInit
+        private WebElement usernameInput;
+        @Getter
+        private PageMenu   menu;
+
+        @Getter
+        private long timestamp;
+
+        public ParentPage(WebDriver driver) {
+            super(driver);
+        }
+
+        @Override
+        public void beforeInit() {
+            timestamp = System.nanoTime();
+        }
+    }
+
+    public static class PageMenu extends AbstractPageObject {
+        @Getter
+        private long timestamp;
+
+        public PageMenu(WebDriver driver) {
+            super(driver);
+        }
+
+        @Override
+        public void beforeInit() {
+            timestamp = System.nanoTime();
+        }
+    }
+
+    @SharedPageObject
+    public static class SharedMenu extends AbstractPageObject {
+        @Getter
+        private int beforeInitCalls;
+
+        public SharedMenu(WebDriver driver) {
+            super(driver);
+        }
+
+        @Override
+        public void beforeInit() {
+            beforeInitCalls++;
+        }
+    }
+
+    public static class Header extends AbstractPageObject {
+        @Getter
+        private SharedMenu menu;
+
+        public Header(WebDriver driver) {
+            super(driver);
+        }
+    }
+
+    public static class Sidebar extends AbstractPageObject {
+        @Getter
+        private SharedMenu menu;
+
+        public Sidebar(WebDriver driver) {
+            super(driver);
+        }
+    }
+
+    @Getter
+    public static class PageWithSharedMenu extends AbstractPageObject {
+        private Header  header;
+        private Sidebar sidebar;
+
+        public PageWithSharedMenu(WebDriver driver) {
+            super(driver);
+        }
+    }
+
+    public static class CyclicPage extends AbstractPageObject {
+        private CyclicMenu menu;
+
+        public CyclicPage(WebDriver driver) {
+            super(driver);
+        }
+    }
+
+    public static class CyclicMenu extends AbstractPageObject {
+        private CyclicPage page;
+
+        public CyclicMenu(WebDriver driver) {
+            super(driver);
+        }
+    }
+
+    public static class LoginPage implements PageObject {
+        @FindBy(how = How.CSS, using = "#login")
+        @ValidatePageObjectOnInit
+        private WebElement usernameInput;
+
+        @FindBy(how = How.CSS, using = "#password")
+        @ValidatePageObjectOnInit
+        private WebElement passwordInput;
+
+        @Getter
+        private Menu menu;
+
+        @Getter
+        private boolean initialized;
+
+        public void beforeInit() {
+            initialized = true;
+        }
+
+        public String credentials() {
+            return usernameInput.getText() + " " + passwordInput.getText();
+        }
+
+        @Override
+        public WebDriver getDriver() {
+            return null;
+        }
+    }
+
+    public static class Menu extends AbstractPageObject {
+
+        @FindBy(how = How.CSS, using = "#menu")
+        @ValidatePageObjectOnInit
+        private WebElement menu;
+
+        public Menu(WebDriver driver) {
+            super(driver);
+        }
+
+        public String getMenuText() {
+            return menu.getText();
+        }
+    }
+
+    public static class FailingMenu extends AbstractPageObject {
+        @FindBy(how = How.CSS, using = "#mXnu")
+        @ValidatePageObjectOnInit
+        private WebElement menu;
+
+        public FailingMenu(WebDriver driver) {
+            super(driver);
+        }
+    }
+
+    public static class PageWithFailingMenu extends AbstractPageObject {
+        @FindBy(how = How.CSS, using = "#passwXrd")
+        @ValidatePageObjectOnInit
+        private WebElement passwordInput;
+
+        private FailingMenu menu;
+
+        public PageWithFailingMenu(WebDriver driver) {
+            super(driver);
+        }
+    }
+
+    public static class PageWithLazyMenu extends AbstractPageObject {
+        @Getter
+        private LazyPageObject<Menu>        menu;
+        @Getter
+        @ValidatePageObjectOnInit
+        private LazyPageObject<Menu>        validatedMenu;
+        @Getter
+        private LazyPageObject<FailingMenu> failingMenu;
+
+        public PageWithLazyMenu(WebDriver driver) {
+            super(driver);
+        }
+    }
+
+    public static class SpanListPage extends AbstractPageObject {
+        @Getter
+        @FindBy(how = How.CSS, using = "span")
+        @ValidatePageObjectOnInit(min = 2, max = 2)
+        private List<WebElement> spans;
+
+        public SpanListPage(WebDriver driver) {
+            super(driver);
+        }
+    }
+
+    public static class TooFewSpansPage extends AbstractPageObject {
+        @FindBy(how = How.CSS, using = "span")
+        @ValidatePageObjectOnInit(min = 3)
+        private List<WebElement> spans;
+
+        public TooFewSpansPage(WebDriver driver) {
+            super(driver);
+        }
+    }
+
+    public static class Label extends AbstractPageObject {
+        @Getter
+        @FindBy(how = How.XPATH, using = ".")
+        @ValidatePageObjectOnInit
+        private WebElement self;
+
+        public Label(WebDriver driver) {
+            super(driver);
+        }
+
+        public String text() {
+            return self.getText();
+        }
+    }
+
+    public static class FailingLabel extends AbstractPageObject {
+        @FindBy(how = How.ID, using = "menu")
+        @ValidatePageObjectOnInit
+        private WebElement child;
+
+        public FailingLabel(WebDriver driver) {
+            super(driver);
+        }
+
+        public String child() {
+            return child.getText();
+        }
+    }
+
+    public static class MenuLabel extends Label {
+        @Getter
+        private Menu                 menu;
+        @Getter
+        private LazyPageObject<Menu> lazyMenu;
+
+        public MenuLabel(WebDriver driver) {
+            super(driver);
+        }
+    }
+
+    public static class LabelListPage extends AbstractPageObject {
+        @Getter
+        @FindBy(how = How.TAG_NAME, using = "span")
+        private List<Label> labels;
+
+        public LabelListPage(WebDriver driver) {
+            super(driver);
+        }
+    }
+
+    public static class ValidatedLabelListPage extends AbstractPageObject {
+        @Getter
+        @FindBy(how = How.TAG_NAME, using = "span")
+        @ValidatePageObjectOnInit(min = 3)
+        private List<Label> labels;
+
+        public ValidatedLabelListPage(WebDriver driver) {
+            super(driver);
+        }
+    }
+
+    public static class MenuLabelListPage extends AbstractPageObject {
+        @Getter
+        @FindBy(how = How.TAG_NAME, using = "span")
+        private List<MenuLabel> labels;
+
+        public MenuLabelListPage(WebDriver driver) {
+            super(driver);
+        }
+    }
+
+    public static class FailingLabelListPage extends AbstractPageObject {
+        @Getter
+        @FindBy(how = How.TAG_NAME, using = "span")
+        private List<FailingLabel> labels;
+
+        public FailingLabelListPage(WebDriver driver) {
+            super(driver);
+        }
+    }
+
+    public static class LoginPageFail extends LoginPage {
+        @FindBy(how = How.CSS, using = "#passwXrd")
+        @ValidatePageObjectOnInit
+        private WebElement passwordInput;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,274 @@
+package de.lgohlke.selenium.pageobjects;
+
+import de.lgohlke.selenium.webdriver.junit.DriverService;
+import de.lgohlke.selenium.webdriver.DriverType;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.How;
+import org.openqa.selenium.support.pagefactory.ByChained;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class PageObjectHelperTest {
+    private final static String FORM_HTML = "" +
+            "<html>" +
+            "  <head></head>" +
+            "  <body>" +
+            "    <input id=\"login\" oninput=\"document.getElementById('events').innerHTML += 'input;'\"" +
+            "                        onchange=\"document.getElementById('events').innerHTML += 'change;'\">" +
+            "    <input id=\"password\" type=\"password\">" +
+            "    <input id=\"remember\" type=\"checkbox\">" +
+            "    <button id=\"submit\" onclick=\"document.getElementById('events').innerHTML += 'submit;'\">ok</button>" +
+            "    <span id=\"events\"></span>" +
+            "  </body>" +
+            "</html>";
+    private final static String TEST_HTML = "" +
+            "<html>" +
+            "  <head></head>" +
+            "  <body>" +
+            "    <span id=\"login\">login</span>" +
+            "    <span id=\"password\">password</span>" +
+            "  </body>" +
+            "</html>";
+
+    @Rule
+    public final DriverService   driverService   = new DriverService(DriverType.PHANTOMJS);
+    @Rule
+    public       TemporaryFolder temporaryFolder = new TemporaryFolder();
+    private WebDriver         driver;
+    private PageFactoryHelper pageFactoryHelper;
+
+    @Before
+    public void beforeEachTest() throws IOException {
+        driver = spy(driverService.getDriver());
+
+        File html = temporaryFolder.newFile("index.html");
+        Files.write(html.toPath(), TEST_HTML.getBytes());
+
+        driver.get("file://" + html.getAbsolutePath());
+        pageFactoryHelper = new PageFactoryHelper(driver);
+        Mockito.reset(driver);
+    }
+
+    @Test
+    public void cleanResilientPresenceCheck() {
+        PageObjectHelper pageObjectHelper = new PageObjectHelper(driver);
+        LoginPageSomeOk  page             = pageFactoryHelper.initElements(LoginPageSomeOk.class);
+
+        assertThat(pageObjectHelper.isPresent(page.usernameInput)).isTrue();
+        assertThat(pageObjectHelper.isPresent(page.passwordInput)).isFalse();
+    }
+
+    @Test
+    public void shouldCheckManyElementsAtOnce() {
+        PageObjectHelper pageObjectHelper = new PageObjectHelper(driver);
+        LoginPageSomeOk  page             = pageFactoryHelper.initElements(LoginPageSomeOk.class);
+
+        BitSet present = pageObjectHelper.arePresent(page.usernameInput, page.passwordInput);
+
+        assertThat(present.get(0)).isTrue();
+        assertThat(present.get(1)).isFalse();
+    }
+
+    @Test
+    public void shouldCheckPresenceWithoutDeferredValidation() {
+        WebDriver noJsDriver = new HtmlUnitDriver(false);
+        try {
+            noJsDriver.get("file://" + new File(temporaryFolder.getRoot(), "index.html").getAbsolutePath());
+            PageFactoryHelper helper = new PageFactoryHelper(noJsDriver);
+            helper.setValidationPolicy(ValidationPolicy.DEFERRED);
+            LoginPageFail page = helper.initElements(LoginPageFail.class);
+
+            BitSet present = new PageObjectHelper(noJsDriver).arePresent(page.usernameInput, page.passwordInput);
+
+            assertThat(present.toString()).isEqualTo("{0}");
+        } finally {
+            noJsDriver.quit();
+        }
+    }
+
+    @Test
+    public void shouldCheckPresenceWithoutImplicitWait() {
+        WebDriver noJsDriver = new HtmlUnitDriver(false);
+        try {
+            noJsDriver.get("file://" + new File(temporaryFolder.getRoot(), "index.html").getAbsolutePath());
+            DriverContext.of(noJsDriver).setImplicitWait(500, TimeUnit.MILLISECONDS);
+
+            long started = System.nanoTime();
+            assertThat(new PageObjectHelper(noJsDriver).isPresent(By.id("pXssword"))).isFalse();
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(250);
+
+            // htmlunit polls the implicit wait with its own clock
+            started = System.nanoTime();
+            assertThat(noJsDriver.findElements(By.id("pXssword"))).isEmpty();
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isGreaterThanOrEqualTo(450);
+        } finally {
+            noJsDriver.quit();
+        }
+    }
+
+    @Test
+    public void shouldCheckFieldsLocatedByIdOrNameByOneScript() {
+        PageObjectHelper pageObjectHelper = new PageObjectHelper(driver);
+        IdOrNamePage     page             = pageFactoryHelper.initElements(IdOrNamePage.class);
+        Mockito.reset(driver);
+
+        BitSet present = pageObjectHelper.arePresent(page.login, page.pXssword);
+
+        assertThat(present.toString()).isEqualTo("{0}");
+        verify((JavascriptExecutor) driver, times(1)).executeScript(any(String.class), any());
+        verify(driver, never()).findElements(any(By.class));
+    }
+
+    @Test
+    public void shouldCheckManyLocatorsAtOnce() {
+        PageObjectHelper pageObjectHelper = new PageObjectHelper(driver);
+
+        BitSet present = pageObjectHelper.arePresent(By.id("login"), By.cssSelector("#pXssword"), By.name("x"),
+                                                     new ByChained(By.tagName("body"), By.id("password")));
+
+        assertThat(present.toString()).isEqualTo("{0, 3}");
+    }
+
+    @Test
+    public void shouldCheckPresenceWithoutFindElement() {
+        PageObjectHelper pageObjectHelper = new PageObjectHelper(driver);
+
+        assertThat(pageObjectHelper.isPresent(By.id("pXssword"))).isFalse();
+
+        verify((JavascriptExecutor) driver, times(1)).executeScript(any(String.class), any());
+    }
+
+    @Test
+    public void shouldFillFormByOneScript() throws IOException {
+        FormPage page = openForm();
+
+        page.fillForm("user", "secret", FormAction.set("secret"));
+
+        verify((JavascriptExecutor) driver, times(1)).executeScript(eq(PageObjectHelper.FILL_SCRIPT), any());
+        verify(driver, never()).findElement(any(By.class));
+        assertThat(page.login.getAttribute("value")).isEqualTo("user");
+        assertThat(page.password.getAttribute("value")).isEqualTo("secret");
+        assertThat(page.remember.isSelected()).isTrue();
+        assertThat(page.events.getText()).isEqualTo("input;change;submit;");
+    }
+
+    @Test
+    public void shouldFillTypedValuesNativelyInOrder() throws IOException {
+        FormPage page = openForm();
+
+        page.fillForm("user", "secret", FormAction.type("secret"));
+
+        verify((JavascriptExecutor) driver, times(2)).executeScript(eq(PageObjectHelper.FILL_SCRIPT), any());
+        assertThat(page.password.getAttribute("value")).isEqualTo("secret");
+        assertThat(page.remember.isSelected()).isTrue();
+        assertThat(page.events.getText()).isEqualTo("input;change;submit;");
+    }
+
+    @Test
+    public void shouldFillByLocators() throws IOException {
+        openForm();
+        Map<By, Object> values = new LinkedHashMap<>();
+        values.put(By.id("login"), "user");
+        values.put(new ByChained(By.tagName("body"), By.id("password")), "secret");
+
+        new PageObjectHelper(driver).fill(values);
+
+        assertThat(driver.findElement(By.id("login")).getAttribute("value")).isEqualTo("user");
+        assertThat(driver.findElement(By.id("password")).getAttribute("value")).isEqualTo("secret");
+    }
+
+    private FormPage openForm() throws IOException {
+        File html = temporaryFolder.newFile("form.html");
+        Files.write(html.toPath(), FORM_HTML.getBytes());
+        driver.get("file://" + html.getAbsolutePath());
+        FormPage page = pageFactoryHelper.initElements(FormPage.class);
+        Mockito.reset(driver);
+        return page;
+    }
+
+    public static class FormPage extends AbstractPageObject {
+        @FindBy(id = "login")
+        private WebElement login;
+        @FindBy(id = "password")
+        private WebElement password;
+        @FindBy(id = "remember")
+        private WebElement remember;
+        @FindBy(id = "submit")
+        private WebElement submit;
+        @FindBy(id = "events")
+        private WebElement events;
+
+        public FormPage(WebDriver driver) {
+            super(driver);
+        }
+
+        void fillForm(String user, String secret, FormAction password) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("login", user);
+            values.put("password", password);
+            values.put("remember", true);
+            values.put("submit", FormAction.click());
+            fill(values);
+        }
+    }
+
+    public static class IdOrNamePage extends AbstractPageObject {
+        private WebElement login;
+        private WebElement pXssword;
+
+        public IdOrNamePage(WebDriver driver) {
+            super(driver);
+        }
+    }
+
+    public static class LoginPageFail extends AbstractPageObject {
+        @FindBy(how = How.CSS, using = "#login")
+        @ValidatePageObjectOnInit
+        private WebElement usernameInput;
+
+        @FindBy(how = How.CSS, using = "#pXssword")
+        @ValidatePageObjectOnInit
+        private WebElement passwordInput;
+
+        public LoginPageFail(WebDriver driver) {
+            super(driver);
+        }
+    }
+
+    public static class LoginPageSomeOk extends AbstractPageObject {
+        @FindBy(how = How.CSS, using = "#login")
+        @ValidatePageObjectOnInit
+        private WebElement usernameInput;
+
+        @FindBy(how = How.CSS, using = "#pXssword")
+        private WebElement passwordInput;
+
+        public LoginPageSomeOk(WebDriver driver) {
+            super(driver);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package de.lgohlke.selenium.pageobjects;
+
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.How;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PageObjectMetadataTest {
+
+    @Test
+    public void shouldComputeMetadataOncePerClass() {
+        assertThat(PageObjectMetadata.of(ChildPage.class)).isSameAs(PageObjectMetadata.of(ChildPage.class));
+    }
+
+    @Test
+    public void shouldSortNestedPageObjectFieldsByName() {
+        PageObjectMetadata metadata = PageObjectMetadata.of(ChildPage.class);
+
+        assertThat(metadata.getNestedPageObjectFields().stream().map(f -> f.getField().getName()).collect(toList()))
+                .containsExactly("footer", "menu");
+    }
+
+    @Test
+    public void shouldCollectValidatedFieldsOfWholeHierarchy() {
+        PageObjectMetadata metadata = PageObjectMetadata.of(ChildPage.class);
+
+        assertThat(metadata.getValidatedFields().stream().map(f -> f.getField().getName()).collect(toList()))
+                .containsExactly("password", "login");
+        assertThat(metadata.getValidatedFields().get(1).getBy()).isEqualTo(By.cssSelector("#login"));
+    }
+
+    @Test
+    public void shouldDetectPage() {
+        assertThat(PageObjectMetadata.of(ChildPage.class).isPage()).isTrue();
+        assertThat(PageObjectMetadata.of(Menu.class).isPage()).isFalse();
+    }
+
+    @Test
+    public void shouldUseGeneratedInitializer() throws IllegalAccessException {
+        PageObjectMetadata metadata = PageObjectMetadata.of(GeneratedPage.class);
+        GeneratedPage      page     = new GeneratedPage(null);
+        Menu               menu     = new Menu(null);
+
+        metadata.getNestedPageObjectFields().get(0).set(page, menu);
+
+        assertThat(metadata.getNestedPageObjectFields().get(0).getInitializer())
+                .isInstanceOf(PageObjectMetadataTest_GeneratedPage_PageObjectInitializer.class);
+        assertThat(page.menu).isSameAs(menu);
+    }
+
+    @Test
+    public void shouldInitNestedPageObjectsInGeneratedOrder() {
+        PageObjectMetadata metadata = PageObjectMetadata.of(GeneratedPage.class);
+
+        assertThat(metadata.getNestedPageObjectFields().stream().map(f -> f.getField().getName()).collect(toList()))
+                .containsExactly("menu", "footer");
+    }
+
+    @Test
+    public void shouldFallbackToReflectionWithoutGeneratedInitializer() {
+        PageObjectMetadata metadata = PageObjectMetadata.of(ChildPage.class);
+
+        assertThat(metadata.getNestedPageObjectFields().get(0).getInitializer()).isNull();
+    }
+
+    public static class GeneratedPage extends AbstractPageObject {
+        Menu menu;
+        Menu footer;
+
+        public GeneratedPage(WebDriver driver) {
+            super(driver);
+        }
+    }
+
+    public static class Menu extends AbstractPageObject {
+        public Menu(WebDriver driver) {
+            super(driver);
+        }
+    }
+
+    public static class ParentPage extends AbstractPageObject implements Page {
+        @FindBy(how = How.CSS, using = "#login")
+        @ValidatePageObjectOnInit
+        private WebElement login;
+
+        @FindBy(how = How.CSS, using = "#unvalidated")
+        private WebElement unvalidated;
+
+        private Menu menu;
+
+        public ParentPage(WebDriver driver) {
+            super(driver);
+        }
+
+        @Override
+        public String getLocation() {
+            return "";
+        }
+    }
+
+    public static class ChildPage extends ParentPage {
+        @FindBy(how = How.CSS, using = "#password")
+        @ValidatePageObjectOnInit
+        private WebElement password;
+
+        private Menu footer;
+
+        public ChildPage(WebDriver driver) {
+            super(driver);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package de.lgohlke.selenium.pageobjects;
+
+import org.openqa.selenium.By;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * what the pageobjects-processor generates for {@link PageObjectMetadataTest.GeneratedPage}
+ */
+public final class PageObjectMetadataTest_GeneratedPage_PageObjectInitializer
+        implements PageObjectInitializer<PageObjectMetadataTest.GeneratedPage> {
+
+    @Override
+    public List<String> getNestedFields() {
+        return Arrays.asList("menu", "footer");
+    }
+
+    @Override
+    public void setNestedField(PageObjectMetadataTest.GeneratedPage pageObject, String field, Object value) {
+        switch (field) {
+            case "menu":
+                pageObject.menu = (PageObjectMetadataTest.Menu) value;
+                break;
+            case "footer":
+                pageObject.footer = (PageObjectMetadataTest.Menu) value;
+                break;
+            default:
+                throw new IllegalArgumentException("unknown nested page object field " + field);
+        }
+    }
+
+    @Override
+    public Map<String, By> getLocators() {
+        return Collections.emptyMap();
+    }
+}
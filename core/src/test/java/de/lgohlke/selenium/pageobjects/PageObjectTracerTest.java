@@ -0,0 +1,54 @@
+package de.lgohlke.selenium.pageobjects;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.StringWriter;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PageObjectTracerTest {
+
+    @After
+    public void afterEachTest() {
+        PageObjectTracer.stop();
+    }
+
+    @Test
+    public void shouldKeepOnlyLatestSpans() {
+        PageObjectTracer tracer = PageObjectTracer.start(2);
+
+        tracer.record("a", "test", System.nanoTime());
+        tracer.record("b", "test", System.nanoTime());
+        tracer.record("c", "test", System.nanoTime());
+
+        assertThat(tracer.getSpans().stream().map(PageObjectTracer.Span::getName).collect(toList()))
+                .containsExactly("b", "c");
+    }
+
+    @Test
+    public void shouldWriteChromeTraceEvents() throws Exception {
+        PageObjectTracer tracer = PageObjectTracer.start(10);
+        tracer.record("init \"Menu\"", "pageobject", System.nanoTime());
+
+        StringWriter writer = new StringWriter();
+        tracer.writeTo(writer);
+
+        assertThat(writer.toString()).startsWith("{\"traceEvents\":[{\"name\":\"init \\\"Menu\\\"\",\"cat\":\"pageobject\",\"ph\":\"X\"")
+                                     .endsWith("],\"displayTimeUnit\":\"ms\"}");
+    }
+
+    @Test
+    public void shouldBeInactiveAfterStop() {
+        PageObjectTracer.start(1);
+        PageObjectTracer.stop();
+
+        assertThat(PageObjectTracer.active()).isNull();
+    }
+
+    @Test
+    public void shouldEscapeControlCharacters() {
+        assertThat(PageObjectTracer.json("a\nb\u0001")).isEqualTo("\"a\\nb\\u0001\"");
+    }
+}
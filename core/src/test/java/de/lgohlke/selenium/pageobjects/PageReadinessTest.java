@@ -0,0 +1,135 @@
+package de.lgohlke.selenium.pageobjects;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.How;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PageReadinessTest {
+    private final static String DELAYED_APP_HTML = "" +
+            "<!DOCTYPE html>" +
+            "<html>" +
+            "  <head></head>" +
+            "  <body>" +
+            "    <script>" +
+            "      setTimeout(function() {" +
+            "        var app = document.createElement('div');" +
+            "        app.id = 'app';" +
+            "        app.appendChild(document.createTextNode('app'));" +
+            "        document.body.appendChild(app);" +
+            "      }, 300);" +
+            "    </script>" +
+            "  </body>" +
+            "</html>";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private WebDriver         driver;
+    private PageFactoryHelper pageFactoryHelper;
+
+    @Before
+    public void beforeEachTest() throws IOException {
+        File html = temporaryFolder.newFile("index.html");
+        Files.write(html.toPath(), DELAYED_APP_HTML.getBytes());
+
+        driver = new HtmlUnitDriver(true);
+        driver.get("file://" + html.getAbsolutePath());
+        pageFactoryHelper = new PageFactoryHelper(driver);
+    }
+
+    @After
+    public void afterEachTest() {
+        driver.quit();
+    }
+
+    @Test
+    public void shouldValidateOnceThePageIsReady() {
+        InMemoryPageObjectMetrics metrics = new InMemoryPageObjectMetrics();
+        pageFactoryHelper.setMetrics(metrics);
+
+        AppPage page = pageFactoryHelper.initElements(AppPage.class);
+
+        assertThat(page.app()).isEqualTo("app");
+        assertThat(metrics.getNanos(AppPage.class, PageObjectMetrics.Phase.READINESS).getCount()).isEqualTo(1);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldValidateImmediatelyWithoutReadiness() {
+        pageFactoryHelper.initElements(NotAwaitedAppPage.class);
+    }
+
+    @Test
+    public void shouldValidateAfterTimeoutWhenPageIsNotReady() {
+        long started = System.nanoTime();
+        try {
+            pageFactoryHelper.initElements(NeverReadyPage.class);
+        } catch (NoSuchElementException e) {
+            assertThat(e.getMessage()).contains("NeverReadyPage.missing failed with findby");
+        }
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isGreaterThanOrEqualTo(200);
+    }
+
+    @Test
+    public void shouldReportUnmetConditions() {
+        AwaitPageReady readiness = NeverReadyPage.class.getAnnotation(AwaitPageReady.class);
+
+        assertThat(PageReadiness.await(driver, readiness)).isEqualTo("no element #missing");
+    }
+
+    public static class NotAwaitedAppPage extends AbstractPageObject implements Page {
+        @FindBy(how = How.ID, using = "app")
+        @ValidatePageObjectOnInit
+        private WebElement app;
+
+        public NotAwaitedAppPage(WebDriver driver) {
+            super(driver);
+        }
+
+        @Override
+        public String getLocation() {
+            return "";
+        }
+
+        public String app() {
+            return app.getText();
+        }
+    }
+
+    @AwaitPageReady(rootSelector = "#app")
+    public static class AppPage extends NotAwaitedAppPage {
+        public AppPage(WebDriver driver) {
+            super(driver);
+        }
+    }
+
+    @AwaitPageReady(rootSelector = "#missing", timeoutMillis = 200)
+    public static class NeverReadyPage extends AbstractPageObject implements Page {
+        @FindBy(how = How.ID, using = "missing")
+        @ValidatePageObjectOnInit
+        private WebElement missing;
+
+        public NeverReadyPage(WebDriver driver) {
+            super(driver);
+        }
+
+        @Override
+        public String getLocation() {
+            return "";
+        }
+    }
+}
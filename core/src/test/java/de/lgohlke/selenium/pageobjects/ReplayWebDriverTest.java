@@ -0,0 +1,226 @@
+package de.lgohlke.selenium.pageobjects;
+
+import com.google.common.collect.ImmutableMap;
+import lombok.Getter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.DesiredCapabilities;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.How;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class ReplayWebDriverTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final AtomicInteger browserCommands = new AtomicInteger();
+
+    /**
+     * a browser showing a page with a login element
+     */
+    private RemoteWebDriver remoteDriver(long latencyMillis) {
+        return new RemoteWebDriver(command -> {
+            Response response = new Response();
+            response.setStatus(0);
+            response.setSessionId("session");
+            switch (command.getName()) {
+                case DriverCommand.NEW_SESSION:
+                    response.setValue(new HashMap<>(ImmutableMap.of("browserName", "recorded")));
+                    return response;
+                case DriverCommand.FIND_ELEMENT:
+                    response.setValue(ImmutableMap.of("ELEMENT", "1"));
+                    break;
+                case DriverCommand.GET_ELEMENT_TEXT:
+                    response.setValue("login");
+                    break;
+                case DriverCommand.GET_ELEMENT_LOCATION:
+                    response.setValue(ImmutableMap.of("x", 0, "y", 0));
+                    break;
+                case DriverCommand.EXECUTE_SCRIPT:
+                    response.setValue(Collections.singletonList(1));
+                    break;
+                default:
+                    response.setValue("http://localhost/");
+            }
+            browserCommands.incrementAndGet();
+            sleep(latencyMillis);
+            return response;
+        }, DesiredCapabilities.htmlUnit());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Path record(String fileName, long latencyMillis) throws IOException {
+        Path            file   = temporaryFolder.getRoot().toPath().resolve(fileName);
+        RemoteWebDriver driver = remoteDriver(latencyMillis);
+        try (CommandRecorder recorder = CommandRecorder.record(new EventFiringWebDriver(driver), file)) {
+            driver.getCurrentUrl();
+            assertThat(driver.findElement(By.id("login")).getText()).isEqualTo("login");
+            assertThat(recorder.getCommands()).isEqualTo(3);
+        }
+        driver.getCurrentUrl();
+        return file;
+    }
+
+    @Test
+    public void shouldReplayRecordedCommands() throws IOException {
+        ReplayWebDriver driver = ReplayWebDriver.of(record("flow.jsonl", 0), false);
+
+        assertThat(driver.getCapabilities().getBrowserName()).isEqualTo("recorded");
+        assertThat(driver.getCurrentUrl()).isEqualTo("http://localhost/");
+        assertThat(driver.findElement(By.id("login")).getText()).isEqualTo("login");
+        assertThat(driver.getReplayed()).isEqualTo(3);
+        assertThat(driver.getRemaining()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldReplayGzippedRecordingInAnyOrder() throws IOException {
+        ReplayWebDriver driver = ReplayWebDriver.of(record("flow.jsonl.gz", 0), false);
+
+        assertThat(driver.findElement(By.id("login")).getText()).isEqualTo("login");
+        assertThat(driver.getReplayed()).isEqualTo(2);
+        assertThat(driver.getRemaining()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldFailOnCommandWithoutRecordedResponse() throws IOException {
+        ReplayWebDriver driver = ReplayWebDriver.of(record("flow.jsonl", 0), false);
+
+        try {
+            driver.findElement(By.id("password"));
+            fail("nothing recorded for this locator");
+        } catch (WebDriverException e) {
+            assertThat(e.getMessage()).contains("no recorded response for findElement");
+        }
+        driver.quit();
+    }
+
+    @Test
+    public void shouldReplayWithRecordedLatency() throws IOException {
+        Path file = record("flow.jsonl", 50);
+
+        ReplayWebDriver fast    = ReplayWebDriver.of(file, false);
+        long            started = System.nanoTime();
+        fast.getCurrentUrl();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(50);
+
+        ReplayWebDriver slow = ReplayWebDriver.of(file, true);
+        started = System.nanoTime();
+        slow.getCurrentUrl();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isGreaterThanOrEqualTo(50);
+    }
+
+    @Test
+    public void shouldReplayPageObjectFlowWithoutBrowser() throws IOException {
+        Path            file   = temporaryFolder.getRoot().toPath().resolve("page.jsonl");
+        RemoteWebDriver remote = remoteDriver(0);
+        long            recorded;
+        try (CommandRecorder recorder = CommandRecorder.record(remote, file)) {
+            assertThat(new PageFactoryHelper(remote).initElements(LoginPage.class).login()).isEqualTo("login");
+            recorded = recorder.getCommands();
+        }
+        int commandsOfBrowser = browserCommands.get();
+
+        ReplayWebDriver driver = ReplayWebDriver.of(file, false);
+        assertThat(new PageFactoryHelper(driver).initElements(LoginPage.class).login()).isEqualTo("login");
+
+        assertThat(driver.getReplayed()).isEqualTo(recorded);
+        assertThat(browserCommands.get()).isEqualTo(commandsOfBrowser);
+    }
+
+    @Test
+    public void shouldRestoreCommandExecutorOnClose() throws IOException {
+        RemoteWebDriver driver   = remoteDriver(0);
+        CommandExecutor executor = driver.getCommandExecutor();
+
+        CommandRecorder.record(driver, temporaryFolder.newFile().toPath()).close();
+
+        assertThat(driver.getCommandExecutor()).isSameAs(executor);
+    }
+
+    @Test
+    public void shouldKeepLaterDecoratorOnClose() throws IOException {
+        RemoteWebDriver driver   = remoteDriver(0);
+        CommandRecorder recorder = CommandRecorder.record(driver, temporaryFolder.newFile().toPath());
+        assertThat(DriverContext.of(driver).countWireCommands()).isTrue();
+        CommandExecutor counter = driver.getCommandExecutor();
+
+        recorder.close();
+        driver.getCurrentUrl();
+
+        assertThat(driver.getCommandExecutor()).isSameAs(counter);
+        assertThat(WireCommandCounter.of(driver).get()).isEqualTo(1);
+        assertThat(recorder.getCommands()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldExecuteCommandsWhenRecordingFails() {
+        RemoteWebDriver driver = remoteDriver(0);
+        Writer failing = new Writer() {
+            @Override
+            public void write(char[] chars, int offset, int length) throws IOException {
+                throw new IOException("disk full");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        CommandRecorder recorder = new CommandRecorder(driver, failing);
+        WireCommandCounter.setCommandExecutor(driver, recorder);
+
+        assertThat(driver.getCurrentUrl()).isEqualTo("http://localhost/");
+        assertThat(recorder.getCommands()).isEqualTo(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotRecordLocalDriver() throws IOException {
+        CommandRecorder.record(new HtmlUnitDriver(), temporaryFolder.newFile().toPath());
+    }
+
+    public static class LoginPage extends AbstractPageObject {
+        @Getter
+        @FindBy(how = How.ID, using = "login")
+        @ValidatePageObjectOnInit
+        private WebElement login;
+
+        public LoginPage(WebDriver driver) {
+            super(driver);
+        }
+
+        public String login() {
+            return login.getText();
+        }
+    }
+}
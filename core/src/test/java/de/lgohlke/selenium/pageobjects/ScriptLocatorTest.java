@@ -0,0 +1,58 @@
+package de.lgohlke.selenium.pageobjects;
+
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ByIdOrName;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.How;
+import org.openqa.selenium.support.pagefactory.ByChained;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ScriptLocatorTest {
+
+    @Test
+    public void shouldMapLocators() {
+        assertThat(ScriptLocator.of(By.id("login"))).isEqualTo(new ScriptLocator("id", "login"));
+        assertThat(ScriptLocator.of(By.name("login"))).isEqualTo(new ScriptLocator("name", "login"));
+        assertThat(ScriptLocator.of(By.className("a"))).isEqualTo(new ScriptLocator("className", "a"));
+        assertThat(ScriptLocator.of(By.cssSelector("#a: b"))).isEqualTo(new ScriptLocator("css", "#a: b"));
+        assertThat(ScriptLocator.of(By.tagName("span"))).isEqualTo(new ScriptLocator("tagName", "span"));
+        assertThat(ScriptLocator.of(By.xpath("//a"))).isEqualTo(new ScriptLocator("xpath", "//a"));
+        assertThat(ScriptLocator.of(By.linkText("a b"))).isEqualTo(new ScriptLocator("linkText", "a b"));
+        assertThat(ScriptLocator.of(By.partialLinkText("a"))).isEqualTo(new ScriptLocator("partialLinkText", "a"));
+    }
+
+    @Test
+    public void shouldMapIdOrName() {
+        assertThat(ScriptLocator.of(new ByIdOrName("login"))).isEqualTo(new ScriptLocator("idOrName", "login"));
+    }
+
+    @Test
+    public void shouldNotMapChainedLocators() {
+        assertThat(ScriptLocator.of(new ByChained(By.id("a"), By.id("b")))).isNull();
+    }
+
+    @Test
+    public void shouldMapFieldAnnotations() throws NoSuchFieldException {
+        assertThat(ScriptLocator.of(Fields.class.getDeclaredField("byCss"))).isEqualTo(new ScriptLocator("css", "a b"));
+        assertThat(ScriptLocator.of(Fields.class.getDeclaredField("byHow"))).isEqualTo(new ScriptLocator("idOrName",
+                                                                                                          "login"));
+        assertThat(ScriptLocator.of(Fields.class.getDeclaredField("login"))).isEqualTo(new ScriptLocator("idOrName",
+                                                                                                         "login"));
+        assertThat(ScriptLocator.of(Fields.class.getDeclaredField("chained"))).isNull();
+    }
+
+    @SuppressWarnings("unused")
+    private static class Fields {
+        @FindBy(css = "a b")
+        private WebElement byCss;
+        @FindBy(how = How.ID_OR_NAME, using = "login")
+        private WebElement byHow;
+        private WebElement login;
+        @FindBys({@FindBy(id = "a"), @FindBy(id = "b")})
+        private WebElement chained;
+    }
+}
@@ -0,0 +1,161 @@
+package de.lgohlke.selenium.pageobjects;
+
+import org.junit.After;
+import org.junit.Test;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SessionSchedulerTest {
+    private final List<WebDriver>  drivers   = Collections.synchronizedList(new ArrayList<>());
+    private final SessionScheduler scheduler = new SessionScheduler(this::newDriver, 2);
+
+    private WebDriver newDriver() {
+        WebDriver driver = mock(WebDriver.class);
+        when(driver.getWindowHandle()).thenReturn("window");
+        drivers.add(driver);
+        return driver;
+    }
+
+    @After
+    public void afterEachTest() {
+        scheduler.close();
+    }
+
+    @Test
+    public void shouldNotExceedMaxSessions() throws Exception {
+        AtomicInteger                 running    = new AtomicInteger();
+        AtomicInteger                 maxRunning = new AtomicInteger();
+        List<CompletableFuture<Void>> flows      = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            flows.add(scheduler.submit(context -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(10);
+                running.decrementAndGet();
+                return null;
+            }));
+        }
+        CompletableFuture.allOf(flows.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+
+        assertThat(drivers).hasSize(2);
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    public void shouldRecycleSessionAfterMaxFlows() throws Exception {
+        scheduler.setMaxFlowsPerSession(2);
+
+        for (int i = 0; i < 3; i++) {
+            scheduler.submit(context -> null).get(10, TimeUnit.SECONDS);
+        }
+
+        assertThat(drivers).hasSize(2);
+        verify(drivers.get(0), times(1)).quit();
+    }
+
+    @Test
+    public void shouldRecycleUnhealthySessionOnError() throws Exception {
+        failingFlow(driver -> when(driver.getWindowHandle()).thenThrow(new IllegalStateException("gone")));
+
+        verify(drivers.get(0), times(1)).quit();
+        assertThat(scheduler.getSessionCount()).isEqualTo(0);
+
+        WebDriver driver = scheduler.submit(DriverContext::getDriver).get(10, TimeUnit.SECONDS);
+
+        assertThat(driver).isSameAs(drivers.get(1));
+    }
+
+    @Test
+    public void shouldKeepHealthySessionOnError() throws Exception {
+        failingFlow(driver -> {
+        });
+
+        WebDriver driver = scheduler.submit(DriverContext::getDriver).get(10, TimeUnit.SECONDS);
+
+        assertThat(driver).isSameAs(drivers.get(0));
+        verify(drivers.get(0), never()).quit();
+    }
+
+    @Test
+    public void shouldNotCheckHealthOfSucceedingFlows() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            scheduler.submit(context -> null).get(10, TimeUnit.SECONDS);
+        }
+
+        verify(drivers.get(0), never()).getWindowHandle();
+    }
+
+    private void failingFlow(Consumer<WebDriver> breakDriver) throws Exception {
+        try {
+            scheduler.submit(context -> {
+                breakDriver.accept(context.getDriver());
+                throw new IllegalStateException("broken flow");
+            }).get(10, TimeUnit.SECONDS);
+            fail("flow should fail");
+        } catch (ExecutionException e) {
+            assertThat(e).hasCauseInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    public void shouldRunFlowsWithSameKeyOnSameSession() throws Exception {
+        Set<WebDriver>                   used  = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        List<CompletableFuture<Boolean>> flows = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            flows.add(scheduler.submit("user-1", context -> used.add(context.getDriver())));
+        }
+        CompletableFuture.allOf(flows.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+
+        assertThat(used).hasSize(1);
+    }
+
+    @Test
+    public void shouldExposeQueueDepthAndUtilization() throws Exception {
+        CountDownLatch                started = new CountDownLatch(2);
+        CountDownLatch                finish  = new CountDownLatch(1);
+        List<CompletableFuture<Void>> flows   = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            flows.add(scheduler.submit(context -> {
+                started.countDown();
+                finish.await();
+                return null;
+            }));
+        }
+        started.await(10, TimeUnit.SECONDS);
+
+        assertThat(scheduler.getUtilization()).isEqualTo(1.0);
+        assertThat(scheduler.getQueueDepth()).isEqualTo(1);
+
+        finish.countDown();
+        CompletableFuture.allOf(flows.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+        assertThat(scheduler.getUtilization()).isEqualTo(0.0);
+        assertThat(scheduler.getQueueDepth()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldQuitSessionsOnClose() throws Exception {
+        scheduler.submit(context -> null).get(10, TimeUnit.SECONDS);
+
+        scheduler.close();
+
+        verify(drivers.get(0), times(1)).quit();
+    }
+}
@@ -0,0 +1,175 @@
+package de.lgohlke.selenium.pageobjects;
+
+import lombok.Getter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+import org.openqa.selenium.support.pagefactory.ByChained;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class TableComponentTest {
+    private final static String TABLE_HTML = "" +
+            "<!DOCTYPE html>" +
+            "<html>" +
+            "  <head></head>" +
+            "  <body>" +
+            "    <table id=\"results\"><tbody></tbody></table>" +
+            "    <script>" +
+            "      var body = document.getElementById('results').getElementsByTagName('tbody')[0];" +
+            "      for (var i = 0; i < 1234; i++) {" +
+            "        var row = document.createElement('tr');" +
+            "        var values = ['row ' + i, i * 2, i % 2 === 0 ? 'even' : 'odd'];" +
+            "        for (var j = 0; j < values.length; j++) {" +
+            "          var cell = document.createElement('td');" +
+            "          cell.appendChild(document.createTextNode(' ' + values[j] + ' '));" +
+            "          row.appendChild(cell);" +
+            "        }" +
+            "        body.appendChild(row);" +
+            "      }" +
+            "    </script>" +
+            "  </body>" +
+            "</html>";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private WebDriver driver;
+
+    @Before
+    public void beforeEachTest() throws IOException {
+        File html = temporaryFolder.newFile("index.html");
+        Files.write(html.toPath(), TABLE_HTML.getBytes());
+
+        driver = spy(new HtmlUnitDriver(true));
+        driver.get("file://" + html.getAbsolutePath());
+        Mockito.reset(driver);
+    }
+
+    @After
+    public void afterEachTest() {
+        driver.quit();
+    }
+
+    @Test
+    public void shouldReadAllRowsInChunks() {
+        ResultPage page = new PageFactoryHelper(driver).initElements(ResultPage.class);
+
+        List<List<String>> rows = page.getResults().rows().collect(toList());
+
+        assertThat(rows).hasSize(1234);
+        assertThat(rows.get(0)).containsExactly("row 0", "0", "even");
+        assertThat(rows.get(1233)).containsExactly("row 1233", "2466", "odd");
+        verify((JavascriptExecutor) driver, times(3)).executeScript(any(String.class), anyVararg());
+        verify(driver, times(0)).findElement(any(By.class));
+    }
+
+    @Test
+    public void shouldReadChunksLazily() {
+        ResultTable table = new PageFactoryHelper(driver).initElements(ResultTable.class);
+        table.setChunkSize(100);
+
+        assertThat(table.rows().limit(150).count()).isEqualTo(150);
+
+        verify((JavascriptExecutor) driver, times(2)).executeScript(any(String.class), anyVararg());
+    }
+
+    @Test
+    public void shouldCountRowsInOneRoundTrip() {
+        ResultTable table = new PageFactoryHelper(driver).initElements(ResultTable.class);
+
+        assertThat(table.getRowCount()).isEqualTo(1234);
+
+        verify((JavascriptExecutor) driver, times(1)).executeScript(any(String.class), anyVararg());
+    }
+
+    @Test
+    public void shouldLocateTableByDriverIfNotExpressibleByScript() {
+        ChainedResultTable table = new PageFactoryHelper(driver).initElements(ChainedResultTable.class);
+        table.setCellSelector("td:first-child");
+
+        List<List<String>> rows = Arrays.<List<String>>asList(Arrays.asList("row 0"), Arrays.asList("row 1"));
+        assertThat(table.rows().limit(2).collect(toList())).isEqualTo(rows);
+    }
+
+    @Test
+    public void shouldFindRowsOnceWithoutJavascript() throws IOException {
+        StringBuilder html = new StringBuilder("<html><body><table id=\"results\">");
+        for (int i = 0; i < 10; i++) {
+            html.append("<tr><td>row ").append(i).append("</td></tr>");
+        }
+        File file = temporaryFolder.newFile("static.html");
+        Files.write(file.toPath(), html.append("</table></body></html>").toString().getBytes());
+        WebDriver noJsDriver = spy(new HtmlUnitDriver(false));
+        try {
+            noJsDriver.get("file://" + file.getAbsolutePath());
+            ResultTable table = new ResultTable(noJsDriver);
+            table.setChunkSize(3);
+
+            List<List<String>> rows = table.rows().collect(toList());
+
+            assertThat(rows).hasSize(10);
+            assertThat(rows.get(9)).containsExactly("row 9");
+            verify(noJsDriver, times(1)).findElement(By.id("results"));
+        } finally {
+            noJsDriver.quit();
+        }
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldFailWithoutTable() {
+        new PageFactoryHelper(driver).initElements(MissingTable.class).rows().count();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectEmptyChunks() {
+        new ResultTable(driver).setChunkSize(0);
+    }
+
+    public static class ResultTable extends TableComponent {
+        public ResultTable(WebDriver driver) {
+            super(driver, By.id("results"));
+        }
+    }
+
+    public static class ChainedResultTable extends TableComponent {
+        public ChainedResultTable(WebDriver driver) {
+            super(driver, new ByChained(By.tagName("body"), By.id("results")));
+        }
+    }
+
+    public static class MissingTable extends TableComponent {
+        public MissingTable(WebDriver driver) {
+            super(driver, By.id("missing"));
+        }
+    }
+
+    public static class ResultPage extends AbstractPageObject {
+        @Getter
+        private ResultTable results;
+
+        public ResultPage(WebDriver driver) {
+            super(driver);
+        }
+    }
+}
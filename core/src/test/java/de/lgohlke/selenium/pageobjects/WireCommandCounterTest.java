@@ -0,0 +1,83 @@
+package de.lgohlke.selenium.pageobjects;
+
+import org.junit.Test;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+import org.openqa.selenium.remote.DesiredCapabilities;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
+
+import java.util.HashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WireCommandCounterTest {
+
+    private static RemoteWebDriver remoteDriver() {
+        return new RemoteWebDriver(command -> {
+            Response response = new Response();
+            response.setStatus(0);
+            response.setSessionId("session");
+            response.setValue(DriverCommand.NEW_SESSION.equals(command.getName()) ? new HashMap<>() : "http://localhost/");
+            return response;
+        }, DesiredCapabilities.htmlUnit());
+    }
+
+    @Test
+    public void shouldCountCommandsOfRemoteDriver() {
+        RemoteWebDriver    driver  = remoteDriver();
+        WireCommandCounter counter = WireCommandCounter.install(driver);
+
+        driver.getCurrentUrl();
+        driver.getCurrentUrl();
+
+        assertThat(counter.get()).isEqualTo(2);
+        assertThat(WireCommandCounter.of(driver)).isSameAs(counter);
+    }
+
+    @Test
+    public void shouldUnwrapDriver() {
+        RemoteWebDriver      driver  = remoteDriver();
+        EventFiringWebDriver wrapper = new EventFiringWebDriver(driver);
+
+        WireCommandCounter counter = WireCommandCounter.install(wrapper);
+        wrapper.getCurrentUrl();
+
+        assertThat(counter.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNotCountLocalDriver() {
+        HtmlUnitDriver driver = new HtmlUnitDriver();
+
+        assertThat(DriverContext.of(driver).countWireCommands()).isFalse();
+        assertThat(WireCommandCounter.of(driver).get()).isEqualTo(-1);
+    }
+
+    @Test
+    public void shouldNotCountWithoutRequest() {
+        RemoteWebDriver driver   = remoteDriver();
+        Object          executor = driver.getCommandExecutor();
+
+        driver.getCurrentUrl();
+
+        assertThat(WireCommandCounter.of(driver).get()).isEqualTo(-1);
+        assertThat(driver.getCommandExecutor()).isSameAs(executor);
+    }
+
+    @Test
+    public void shouldCountPhasesAfterRequest() {
+        RemoteWebDriver           driver  = remoteDriver();
+        InMemoryPageObjectMetrics metrics = new InMemoryPageObjectMetrics();
+        PageFactoryHelper         helper  = new PageFactoryHelper(driver);
+        helper.setMetrics(metrics);
+
+        assertThat(DriverContext.of(driver).countWireCommands()).isTrue();
+        helper.initElements(NavigationTrackerTest.IndexPage.class);
+
+        // getCurrentUrl and get
+        assertThat(metrics.getCommands(NavigationTrackerTest.IndexPage.class, PageObjectMetrics.Phase.NAVIGATION)
+                          .getSum()).isEqualTo(2);
+    }
+}
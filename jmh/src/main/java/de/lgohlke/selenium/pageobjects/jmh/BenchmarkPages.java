@@ -0,0 +1,173 @@
+package de.lgohlke.selenium.pageobjects.jmh;
+
+import de.lgohlke.selenium.pageobjects.AbstractPageObject;
+import de.lgohlke.selenium.pageobjects.ValidatePageObjectOnInit;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.How;
+
+/**
+ * page object graphs used by the benchmarks, all validated locators are present in the {@link StubWebDriver}
+ */
+public final class BenchmarkPages {
+    public static final By[] PRESENT = {
+            By.cssSelector("#login"),
+            By.cssSelector("#menu"),
+            By.cssSelector("#f1"),
+            By.cssSelector("#f2"),
+            By.cssSelector("#f3"),
+            By.cssSelector("#f4"),
+            By.cssSelector("#f5"),
+            By.cssSelector("#f6"),
+            By.cssSelector("#f7"),
+            By.cssSelector("#f8"),
+            By.cssSelector("#f9"),
+            By.cssSelector("#f10"),
+            By.cssSelector("#f11"),
+            By.cssSelector("#f12")};
+
+    private BenchmarkPages() {
+    }
+
+    public static class FlatPage extends AbstractPageObject {
+        @FindBy(how = How.CSS, using = "#login")
+        @ValidatePageObjectOnInit
+        private WebElement login;
+
+        @FindBy(how = How.CSS, using = "#missing")
+        private WebElement missing;
+
+        public FlatPage(WebDriver driver) {
+            super(driver);
+        }
+
+        public WebElement getLogin() {
+            return login;
+        }
+
+        public WebElement getMissing() {
+            return missing;
+        }
+    }
+
+    public static class PlainPage extends AbstractPageObject {
+        @FindBy(how = How.CSS, using = "#login")
+        private WebElement login;
+
+        public PlainPage(WebDriver driver) {
+            super(driver);
+        }
+
+        public WebElement getLogin() {
+            return login;
+        }
+    }
+
+    public static class Widget extends AbstractPageObject {
+        @FindBy(how = How.CSS, using = "#menu")
+        @ValidatePageObjectOnInit
+        private WebElement menu;
+
+        public Widget(WebDriver driver) {
+            super(driver);
+        }
+    }
+
+    public static class DeepPage extends AbstractPageObject {
+        @FindBy(how = How.CSS, using = "#login")
+        @ValidatePageObjectOnInit
+        private WebElement login;
+        private Level1     level;
+
+        public DeepPage(WebDriver driver) {
+            super(driver);
+        }
+    }
+
+    public static class Level1 extends Widget {
+        private Level2 level;
+
+        public Level1(WebDriver driver) {
+            super(driver);
+        }
+    }
+
+    public static class Level2 extends Widget {
+        private Level3 level;
+
+        public Level2(WebDriver driver) {
+            super(driver);
+        }
+    }
+
+    public static class Level3 extends Widget {
+        private Widget level;
+
+        public Level3(WebDriver driver) {
+            super(driver);
+        }
+    }
+
+    public static class WidePage extends AbstractPageObject {
+        @FindBy(how = How.CSS, using = "#login")
+        @ValidatePageObjectOnInit
+        private WebElement login;
+        private Widget     widget1;
+        private Widget     widget2;
+        private Widget     widget3;
+        private Widget     widget4;
+        private Widget     widget5;
+        private Widget     widget6;
+        private Widget     widget7;
+        private Widget     widget8;
+
+        public WidePage(WebDriver driver) {
+            super(driver);
+        }
+    }
+
+    public static class ManyFieldsPage extends AbstractPageObject {
+        @FindBy(how = How.CSS, using = "#f1")
+        @ValidatePageObjectOnInit
+        private WebElement f1;
+        @FindBy(how = How.CSS, using = "#f2")
+        @ValidatePageObjectOnInit
+        private WebElement f2;
+        @FindBy(how = How.CSS, using = "#f3")
+        @ValidatePageObjectOnInit
+        private WebElement f3;
+        @FindBy(how = How.CSS, using = "#f4")
+        @ValidatePageObjectOnInit
+        private WebElement f4;
+        @FindBy(how = How.CSS, using = "#f5")
+        @ValidatePageObjectOnInit
+        private WebElement f5;
+        @FindBy(how = How.CSS, using = "#f6")
+        @ValidatePageObjectOnInit
+        private WebElement f6;
+        @FindBy(how = How.CSS, using = "#f7")
+        @ValidatePageObjectOnInit
+        private WebElement f7;
+        @FindBy(how = How.CSS, using = "#f8")
+        @ValidatePageObjectOnInit
+        private WebElement f8;
+        @FindBy(how = How.CSS, using = "#f9")
+        @ValidatePageObjectOnInit
+        private WebElement f9;
+        @FindBy(how = How.CSS, using = "#f10")
+        @ValidatePageObjectOnInit
+        private WebElement f10;
+        @FindBy(how = How.CSS, using = "#f11")
+        @ValidatePageObjectOnInit
+        private WebElement f11;
+        @FindBy(how = How.CSS, using = "#f12")
+        @ValidatePageObjectOnInit
+        private WebElement f12;
+
+        public ManyFieldsPage(WebDriver driver) {
+            super(driver);
+        }
+    }
+}
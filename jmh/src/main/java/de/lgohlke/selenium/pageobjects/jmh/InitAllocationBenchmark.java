@@ -0,0 +1,59 @@
+package de.lgohlke.selenium.pageobjects.jmh;
+
+import de.lgohlke.selenium.pageobjects.PageFactoryHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * allocations of {@link PageFactoryHelper#initElements(Class)} without wire latency and with debug logging disabled,
+ * run with the gc profiler and compare {@code gc.alloc.rate.norm} (bytes per operation)
+ * <pre>
+ *     java -jar jmh/target/benchmarks.jar InitAllocationBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InitAllocationBenchmark {
+    private StubWebDriver     driver;
+    private PageFactoryHelper pageFactoryHelper;
+
+    @Setup
+    public void setup() {
+        driver = new StubWebDriver(0, BenchmarkPages.PRESENT);
+        pageFactoryHelper = new PageFactoryHelper(driver);
+    }
+
+    @Benchmark
+    public Object initPlain() {
+        return pageFactoryHelper.initElements(BenchmarkPages.PlainPage.class);
+    }
+
+    @Benchmark
+    public Object initDeepNested() {
+        return pageFactoryHelper.initElements(BenchmarkPages.DeepPage.class);
+    }
+
+    @Benchmark
+    public Object initWide() {
+        return pageFactoryHelper.initElements(BenchmarkPages.WidePage.class);
+    }
+
+    @Benchmark
+    public Object validateManyFields() {
+        return pageFactoryHelper.initElements(BenchmarkPages.ManyFieldsPage.class, true);
+    }
+}
@@ -0,0 +1,66 @@
+package de.lgohlke.selenium.pageobjects.jmh;
+
+import de.lgohlke.selenium.pageobjects.PageFactoryHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PageFactoryHelper#initElements(Class)} for flat, deep nested and wide page object graphs
+ * and the validation of many fields
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InitElementsBenchmark {
+    /**
+     * simulated latency of each webdriver command
+     */
+    @Param({"0", "100"})
+    public long    latencyMicros;
+    @Param({"true", "false"})
+    public boolean batchValidation;
+
+    private StubWebDriver     driver;
+    private PageFactoryHelper pageFactoryHelper;
+
+    @Setup
+    public void setup() {
+        driver = new StubWebDriver(TimeUnit.MICROSECONDS.toNanos(latencyMicros), BenchmarkPages.PRESENT);
+        pageFactoryHelper = new PageFactoryHelper(driver);
+        pageFactoryHelper.setBatchValidation(batchValidation);
+    }
+
+    @Benchmark
+    public Object initFlat(WireCommands wire) {
+        return wire.count(driver, () -> pageFactoryHelper.initElements(BenchmarkPages.FlatPage.class));
+    }
+
+    @Benchmark
+    public Object initDeepNested(WireCommands wire) {
+        return wire.count(driver, () -> pageFactoryHelper.initElements(BenchmarkPages.DeepPage.class));
+    }
+
+    @Benchmark
+    public Object initWide(WireCommands wire) {
+        return wire.count(driver, () -> pageFactoryHelper.initElements(BenchmarkPages.WidePage.class));
+    }
+
+    @Benchmark
+    public Object validateManyFields(WireCommands wire) {
+        return wire.count(driver, () -> pageFactoryHelper.initElements(BenchmarkPages.ManyFieldsPage.class, true));
+    }
+}
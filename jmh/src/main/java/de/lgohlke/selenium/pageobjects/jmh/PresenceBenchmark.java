@@ -0,0 +1,55 @@
+package de.lgohlke.selenium.pageobjects.jmh;
+
+import de.lgohlke.selenium.pageobjects.PageFactoryHelper;
+import de.lgohlke.selenium.pageobjects.PageObjectHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PageObjectHelper#isPresent(org.openqa.selenium.WebElement)} for present and missing elements
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PresenceBenchmark {
+    /**
+     * simulated latency of each webdriver command
+     */
+    @Param({"0", "100"})
+    public long latencyMicros;
+
+    private StubWebDriver           driver;
+    private PageObjectHelper        pageObjectHelper;
+    private BenchmarkPages.FlatPage page;
+
+    @Setup
+    public void setup() {
+        driver = new StubWebDriver(TimeUnit.MICROSECONDS.toNanos(latencyMicros), BenchmarkPages.PRESENT);
+        pageObjectHelper = new PageObjectHelper(driver);
+        page = new PageFactoryHelper(driver).initElements(BenchmarkPages.FlatPage.class);
+    }
+
+    @Benchmark
+    public boolean isPresentHit(WireCommands wire) {
+        return wire.count(driver, () -> pageObjectHelper.isPresent(page.getLogin()));
+    }
+
+    @Benchmark
+    public boolean isPresentMiss(WireCommands wire) {
+        return wire.count(driver, () -> pageObjectHelper.isPresent(page.getMissing()));
+    }
+}
@@ -0,0 +1,170 @@
+package de.lgohlke.selenium.pageobjects.jmh;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * in-process {@link WebDriver} which knows a fixed set of locators, simulates a wire latency per command and
+ * counts all commands
+ * <p>
+ * the count script of the batch validation is understood, all other scripts return null
+ */
+public class StubWebDriver implements WebDriver, JavascriptExecutor {
+    private final    long      latencyNanos;
+    private final    Set<By>   present    = new HashSet<>();
+    private final    LongAdder commands   = new LongAdder();
+    private volatile String    currentUrl = "about:blank";
+
+    public StubWebDriver(long latencyNanos, By... presentLocators) {
+        this.latencyNanos = latencyNanos;
+        Collections.addAll(present, presentLocators);
+    }
+
+    public long getCommands() {
+        return commands.sum();
+    }
+
+    void command() {
+        commands.increment();
+        if (latencyNanos > 0) {
+            long deadline = System.nanoTime() + latencyNanos;
+            while (System.nanoTime() < deadline) {
+                Thread.yield();
+            }
+        }
+    }
+
+    boolean isPresent(By by) {
+        return present.contains(by);
+    }
+
+    @Override
+    public void get(String url) {
+        command();
+        currentUrl = url;
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        command();
+        return currentUrl;
+    }
+
+    @Override
+    public String getTitle() {
+        command();
+        return "";
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        command();
+        return isPresent(by) ? Collections.singletonList(new StubWebElement(this)) : Collections.emptyList();
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        command();
+        if (isPresent(by)) {
+            return new StubWebElement(this);
+        }
+        throw new NoSuchElementException("Cannot locate an element using " + by);
+    }
+
+    @Override
+    public String getPageSource() {
+        command();
+        return "";
+    }
+
+    @Override
+    public void close() {
+        command();
+    }
+
+    @Override
+    public void quit() {
+        command();
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        command();
+        return Collections.singleton("stub");
+    }
+
+    @Override
+    public String getWindowHandle() {
+        command();
+        return "stub";
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Navigation navigate() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Options manage() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        command();
+        if (args.length == 1 && args[0] instanceof List) {
+            List<Long> counts = new ArrayList<>();
+            for (Object spec : (List<?>) args[0]) {
+                List<?> strategy = (List<?>) spec;
+                By      by       = toBy(String.valueOf(strategy.get(0)), String.valueOf(strategy.get(1)));
+                counts.add(by == null ? -1L : (isPresent(by) ? 1L : 0L));
+            }
+            return counts;
+        }
+        return null;
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        command();
+        return null;
+    }
+
+    private static By toBy(String how, String value) {
+        switch (how) {
+            case "id":
+                return By.id(value);
+            case "name":
+                return By.name(value);
+            case "className":
+                return By.className(value);
+            case "css":
+                return By.cssSelector(value);
+            case "tagName":
+                return By.tagName(value);
+            case "xpath":
+                return By.xpath(value);
+            case "linkText":
+                return By.linkText(value);
+            case "partialLinkText":
+                return By.partialLinkText(value);
+            default:
+                return null;
+        }
+    }
+}
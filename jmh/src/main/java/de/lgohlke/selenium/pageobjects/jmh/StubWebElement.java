@@ -0,0 +1,109 @@
+package de.lgohlke.selenium.pageobjects.jmh;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+
+/**
+ * element of the {@link StubWebDriver}, every method is a counted command
+ */
+class StubWebElement implements WebElement {
+    private final StubWebDriver driver;
+
+    StubWebElement(StubWebDriver driver) {
+        this.driver = driver;
+    }
+
+    @Override
+    public void click() {
+        driver.command();
+    }
+
+    @Override
+    public void submit() {
+        driver.command();
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        driver.command();
+    }
+
+    @Override
+    public void clear() {
+        driver.command();
+    }
+
+    @Override
+    public String getTagName() {
+        driver.command();
+        return "span";
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        driver.command();
+        return null;
+    }
+
+    @Override
+    public boolean isSelected() {
+        driver.command();
+        return false;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        driver.command();
+        return true;
+    }
+
+    @Override
+    public String getText() {
+        driver.command();
+        return "";
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return driver.findElements(by);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return driver.findElement(by);
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        driver.command();
+        return true;
+    }
+
+    @Override
+    public Point getLocation() {
+        driver.command();
+        return new Point(0, 0);
+    }
+
+    @Override
+    public Dimension getSize() {
+        driver.command();
+        return new Dimension(1, 1);
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        driver.command();
+        return "";
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,35 @@
+package de.lgohlke.selenium.pageobjects.jmh;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.function.Supplier;
+
+/**
+ * reports the webdriver commands issued by a benchmark next to its time, so round-trip regressions are visible
+ * <p>
+ * jmh sums both counters over the iteration, the commands per operation are {@code commands / invocations}
+ */
+@AuxCounters(AuxCounters.Type.EVENTS)
+@State(Scope.Thread)
+public class WireCommands {
+    public long commands;
+    public long invocations;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        commands = 0;
+        invocations = 0;
+    }
+
+    <T> T count(StubWebDriver driver, Supplier<T> operation) {
+        long before = driver.getCommands();
+        T    result = operation.get();
+        commands += driver.getCommands() - before;
+        invocations++;
+        return result;
+    }
+}
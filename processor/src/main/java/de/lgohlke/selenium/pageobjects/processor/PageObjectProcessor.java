@@ -0,0 +1,376 @@
+package de.lgohlke.selenium.pageobjects.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * generates a {@code PageObjectInitializer} for each concrete class implementing {@code PageObject}
+ * <p>
+ * the initializer contains the nested page object fields in init order, assignments to them and the locators of all
+ * validated {@code @FindBy} fields; accessible fields are assigned directly, private, final or fields declared in
+ * another package through a {@link java.lang.reflect.Field} looked up once per initializer class
+ */
+@SupportedAnnotationTypes("*")
+public class PageObjectProcessor extends AbstractProcessor {
+    static final String SUFFIX = "_PageObjectInitializer";
+
+    private static final String PAGE_OBJECT      = "de.lgohlke.selenium.pageobjects.PageObject";
+    private static final String LAZY_PAGE_OBJECT = "de.lgohlke.selenium.pageobjects.LazyPageObject";
+    private static final String INITIALIZER      = "de.lgohlke.selenium.pageobjects.PageObjectInitializer";
+    private static final String VALIDATE         = "de.lgohlke.selenium.pageobjects.ValidatePageObjectOnInit";
+    private static final String FIND_BY          = "org.openqa.selenium.support.FindBy";
+    private static final String BY               = "org.openqa.selenium.By";
+
+    private static final String[][] SHORT_FIND_BY = {
+            {"className", "className"},
+            {"css", "cssSelector"},
+            {"id", "id"},
+            {"linkText", "linkText"},
+            {"name", "name"},
+            {"partialLinkText", "partialLinkText"},
+            {"tagName", "tagName"},
+            {"xpath", "xpath"}};
+
+    private Elements   elements;
+    private Types      types;
+    private TypeMirror pageObjectType;
+    private TypeMirror lazyPageObjectType;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        elements = processingEnv.getElementUtils();
+        types = processingEnv.getTypeUtils();
+
+        TypeElement pageObject     = elements.getTypeElement(PAGE_OBJECT);
+        TypeElement lazyPageObject = elements.getTypeElement(LAZY_PAGE_OBJECT);
+        if (pageObject == null || lazyPageObject == null) {
+            return false;
+        }
+        pageObjectType = types.erasure(pageObject.asType());
+        lazyPageObjectType = types.erasure(lazyPageObject.asType());
+
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            process(type);
+        }
+        return false;
+    }
+
+    private void process(TypeElement type) {
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            if (nested.getModifiers().contains(Modifier.STATIC)) {
+                process(nested);
+            }
+        }
+
+        if (type.getKind() != ElementKind.CLASS
+                || type.getModifiers().contains(Modifier.ABSTRACT)
+                || type.getModifiers().contains(Modifier.PRIVATE)
+                || !type.getTypeParameters().isEmpty()
+                || !types.isAssignable(types.erasure(type.asType()), pageObjectType)) {
+            return;
+        }
+
+        String                     packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        List<VariableElement>      nested      = new ArrayList<>();
+        Map<String, String>        locators    = new LinkedHashMap<>();
+        Set<String>                names       = new HashSet<>();
+        for (TypeElement current = type; current != null; current = superclass(current)) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (isNestedPageObject(field)) {
+                    if (!names.add(field.getSimpleName().toString())) {
+                        note(type, "nested page object field " + field.getSimpleName() + " is declared more than once");
+                        return;
+                    }
+                    nested.add(field);
+                } else if (hasAnnotation(field, VALIDATE) && hasAnnotation(field, FIND_BY)) {
+                    String name = field.getSimpleName().toString();
+                    if (locators.containsKey(name)) {
+                        note(type, "validated field " + name + " is declared more than once");
+                        return;
+                    }
+                    String locator = locator(annotation(field, FIND_BY));
+                    if (locator != null) {
+                        locators.put(name, locator);
+                    }
+                }
+            }
+        }
+        nested.sort(Comparator.comparing(f -> f.getSimpleName().toString()));
+
+        try {
+            write(type, packageName, nested, locators);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), type);
+        }
+    }
+
+    private void write(TypeElement type,
+                       String packageName,
+                       List<VariableElement> nested,
+                       Map<String, String> locators) throws IOException {
+        String binaryName = elements.getBinaryName(type).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                .replace('$', '_') + SUFFIX;
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        String typeName      = type.getQualifiedName().toString();
+        boolean reflective   = nested.stream().anyMatch(field -> !isAccessible(field, packageName));
+
+        try (PrintWriter out = new PrintWriter(processingEnv.getFiler()
+                                                            .createSourceFile(qualifiedName, type)
+                                                            .openWriter())) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("/**");
+            out.println(" * generated by " + getClass().getName() + ", do not edit");
+            out.println(" */");
+            out.println("public final class " + simpleName + " implements " + INITIALIZER + "<" + typeName + "> {");
+            out.println("    private static final java.util.List<String> NESTED_FIELDS = java.util.Collections"
+                                + ".unmodifiableList(java.util.Arrays.<String>asList(");
+            for (int i = 0; i < nested.size(); i++) {
+                out.println("            " + literal(nested.get(i).getSimpleName().toString())
+                                    + (i < nested.size() - 1 ? "," : ""));
+            }
+            out.println("    ));");
+            out.println("    private static final java.util.Map<String, " + BY + "> LOCATORS;");
+            for (VariableElement field : nested) {
+                if (!isAccessible(field, packageName)) {
+                    out.println("    private static final java.lang.reflect.Field " + fieldConstant(field) + " = field("
+                                        + literal(elements.getBinaryName((TypeElement) field.getEnclosingElement())
+                                                          .toString()) + ", "
+                                        + literal(field.getSimpleName().toString()) + ");");
+                }
+            }
+            out.println();
+            out.println("    static {");
+            out.println("        java.util.Map<String, " + BY + "> locators = new java.util.HashMap<>();");
+            locators.forEach((name, locator) -> out.println("        locators.put(" + literal(name) + ", " + locator + ");"));
+            out.println("        LOCATORS = java.util.Collections.unmodifiableMap(locators);");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public java.util.List<String> getNestedFields() {");
+            out.println("        return NESTED_FIELDS;");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    @SuppressWarnings(\"unchecked\")");
+            out.println("    public void setNestedField(" + typeName + " pageObject, String field, Object value) {");
+            out.println("        switch (field) {");
+            for (VariableElement field : nested) {
+                String name = field.getSimpleName().toString();
+                out.println("            case " + literal(name) + ":");
+                if (isAccessible(field, packageName)) {
+                    out.println("                pageObject." + name + " = (" + field.asType() + ") value;");
+                } else {
+                    out.println("                set(" + fieldConstant(field) + ", pageObject, value);");
+                }
+                out.println("                break;");
+            }
+            out.println("            default:");
+            out.println("                throw new IllegalArgumentException(\"unknown nested page object field \" + field);");
+            out.println("        }");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public java.util.Map<String, " + BY + "> getLocators() {");
+            out.println("        return LOCATORS;");
+            out.println("    }");
+            if (reflective) {
+                out.println();
+                out.println("    private static java.lang.reflect.Field field(String declaringClass, String name) {");
+                out.println("        for (Class<?> clazz = " + typeName + ".class; clazz != null; clazz = clazz.getSuperclass()) {");
+                out.println("            if (clazz.getName().equals(declaringClass)) {");
+                out.println("                try {");
+                out.println("                    java.lang.reflect.Field field = clazz.getDeclaredField(name);");
+                out.println("                    field.setAccessible(true);");
+                out.println("                    return field;");
+                out.println("                } catch (NoSuchFieldException e) {");
+                out.println("                    throw new IllegalStateException(e);");
+                out.println("                }");
+                out.println("            }");
+                out.println("        }");
+                out.println("        throw new IllegalStateException(declaringClass + \" is not a superclass\");");
+                out.println("    }");
+                out.println();
+                out.println("    private static void set(java.lang.reflect.Field field, Object pageObject, Object value) {");
+                out.println("        try {");
+                out.println("            field.set(pageObject, value);");
+                out.println("        } catch (IllegalAccessException e) {");
+                out.println("            throw new IllegalStateException(e);");
+                out.println("        }");
+                out.println("    }");
+            }
+            out.println("}");
+        }
+    }
+
+    private boolean isNestedPageObject(VariableElement field) {
+        TypeMirror type = field.asType();
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        if (types.isAssignable(types.erasure(type), pageObjectType)) {
+            return true;
+        }
+        if (types.isSameType(types.erasure(type), lazyPageObjectType)) {
+            List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+            return arguments.size() == 1
+                    && arguments.get(0).getKind() == TypeKind.DECLARED
+                    && types.isAssignable(types.erasure(arguments.get(0)), pageObjectType);
+        }
+        return false;
+    }
+
+    private static String fieldConstant(VariableElement field) {
+        return "FIELD_" + field.getSimpleName();
+    }
+
+    /**
+     * @return true if the generated initializer can assign the field directly
+     */
+    private boolean isAccessible(VariableElement field, String packageName) {
+        if (field.getModifiers().contains(Modifier.PRIVATE) || field.getModifiers().contains(Modifier.FINAL)) {
+            return false;
+        }
+        PackageElement declaringPackage = elements.getPackageOf(field);
+        return declaringPackage.getQualifiedName().contentEquals(packageName);
+    }
+
+    /**
+     * mirrors the precedence of selenium's {@code Annotations#buildBy}
+     *
+     * @return null if the locator can not be determined at compile time
+     */
+    private String locator(AnnotationMirror findBy) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : elements.getElementValuesWithDefaults(findBy).entrySet()) {
+            values.put(entry.getKey().getSimpleName().toString(), entry.getValue().getValue());
+        }
+
+        for (String[] shortFindBy : SHORT_FIND_BY) {
+            String value = (String) values.get(shortFindBy[0]);
+            if (value != null && !value.isEmpty()) {
+                return BY + "." + shortFindBy[1] + "(" + literal(value) + ")";
+            }
+        }
+
+        String how   = String.valueOf(values.get("how"));
+        String using = literal(String.valueOf(values.get("using")));
+        switch (how) {
+            case "CLASS_NAME":
+                return BY + ".className(" + using + ")";
+            case "CSS":
+                return BY + ".cssSelector(" + using + ")";
+            case "ID":
+                return BY + ".id(" + using + ")";
+            case "ID_OR_NAME":
+                return "new org.openqa.selenium.support.pagefactory.ByIdOrName(" + using + ")";
+            case "LINK_TEXT":
+                return BY + ".linkText(" + using + ")";
+            case "NAME":
+                return BY + ".name(" + using + ")";
+            case "PARTIAL_LINK_TEXT":
+                return BY + ".partialLinkText(" + using + ")";
+            case "TAG_NAME":
+                return BY + ".tagName(" + using + ")";
+            case "XPATH":
+                return BY + ".xpath(" + using + ")";
+            default:
+                return null;
+        }
+    }
+
+    private TypeElement superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement element = (TypeElement) types.asElement(superclass);
+        return element.getQualifiedName().contentEquals(Object.class.getName()) ? null : element;
+    }
+
+    private static boolean hasAnnotation(Element element, String annotation) {
+        return annotation(element, annotation) != null;
+    }
+
+    private static AnnotationMirror annotation(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement type = (TypeElement) mirror.getAnnotationType().asElement();
+            if (type.getQualifiedName().contentEquals(annotation)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private void note(TypeElement type, String reason) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                                                 "no initializer generated, " + reason + ", using reflection",
+                                                 type);
+    }
+
+    static String literal(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                case '\t':
+                    literal.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20 || c > 0x7e) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+            }
+        }
+        return literal.append('"').toString();
+    }
+}
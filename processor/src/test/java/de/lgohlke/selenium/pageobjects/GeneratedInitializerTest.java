@@ -0,0 +1,93 @@
+package de.lgohlke.selenium.pageobjects;
+
+import de.lgohlke.selenium.pageobjects.processor.SampleCompiler;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+
+import java.lang.reflect.Field;
+import java.net.URLClassLoader;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * runs the {@link PageFactoryHelper} against the real output of the processor
+ */
+public class GeneratedInitializerTest {
+    private final static String ADMIN_PAGE = "" +
+            "package sample;\n" +
+            "import de.lgohlke.selenium.pageobjects.*;\n" +
+            "import org.openqa.selenium.*;\n" +
+            "public class AdminPage extends AbstractPageObject {\n" +
+            "    private Menu menu;\n" +
+            "    Menu footer;\n" +
+            "    private LazyPageObject<Menu> settings;\n" +
+            "    public AdminPage(WebDriver driver) { super(driver); }\n" +
+            "    public static class Menu extends AbstractPageObject {\n" +
+            "        public Menu(WebDriver driver) { super(driver); }\n" +
+            "    }\n" +
+            "}\n";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    private SampleCompiler compiler;
+    private HtmlUnitDriver driver;
+
+    @Before
+    public void beforeEachTest() throws Exception {
+        compiler = new SampleCompiler(temporaryFolder);
+        compiler.compile("AdminPage", ADMIN_PAGE);
+        driver = new HtmlUnitDriver();
+    }
+
+    @After
+    public void afterEachTest() {
+        driver.quit();
+    }
+
+    @Test
+    public void shouldUseGeneratedInitializer() throws Exception {
+        try (URLClassLoader loader = compiler.classLoader()) {
+            PageObjectMetadata metadata = PageObjectMetadata.of(loader.loadClass("sample.AdminPage"));
+
+            assertThat(metadata.getNestedPageObjectFields()).isNotEmpty();
+            metadata.getNestedPageObjectFields()
+                    .forEach(f -> assertThat(f.getInitializer().getClass().getName())
+                            .isEqualTo("sample.AdminPage_PageObjectInitializer"));
+        }
+    }
+
+    @Test
+    public void shouldInitNestedPageObjectsInGeneratedOrder() throws Exception {
+        try (URLClassLoader loader = compiler.classLoader()) {
+            PageObjectMetadata       metadata    = PageObjectMetadata.of(loader.loadClass("sample.AdminPage"));
+            PageObjectInitializer<?> initializer = metadata.getNestedPageObjectFields().get(0).getInitializer();
+
+            assertThat(metadata.getNestedPageObjectFields().stream().map(f -> f.getField().getName()).collect(toList()))
+                    .isEqualTo(initializer.getNestedFields());
+        }
+    }
+
+    @Test
+    public void shouldInitPrivateNestedPageObjects() throws Exception {
+        try (URLClassLoader loader = compiler.classLoader()) {
+            Class<? extends PageObject> type = loader.loadClass("sample.AdminPage").asSubclass(PageObject.class);
+
+            PageObject page = new PageFactoryHelper(driver).initElements(type);
+
+            assertThat(field(page, "menu")).isNotNull();
+            assertThat(field(page, "footer")).isNotNull();
+            assertThat(field(page, "settings")).isInstanceOf(LazyPageObject.class);
+        }
+    }
+
+    private static Object field(Object pageObject, String name) throws ReflectiveOperationException {
+        Field field = pageObject.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(pageObject);
+    }
+}
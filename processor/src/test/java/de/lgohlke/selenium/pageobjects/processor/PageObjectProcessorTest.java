@@ -0,0 +1,110 @@
+package de.lgohlke.selenium.pageobjects.processor;
+
+import de.lgohlke.selenium.pageobjects.PageObject;
+import de.lgohlke.selenium.pageobjects.PageObjectInitializer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.openqa.selenium.By;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.net.URLClassLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PageObjectProcessorTest {
+    private final static String LOGIN_PAGE = "" +
+            "package sample;\n" +
+            "import de.lgohlke.selenium.pageobjects.*;\n" +
+            "import org.openqa.selenium.*;\n" +
+            "import org.openqa.selenium.support.*;\n" +
+            "public class LoginPage implements PageObject {\n" +
+            "    @FindBy(how = How.CSS, using = \"#login\")\n" +
+            "    @ValidatePageObjectOnInit\n" +
+            "    WebElement usernameInput;\n" +
+            "    @FindBy(id = \"password\")\n" +
+            "    @ValidatePageObjectOnInit\n" +
+            "    WebElement passwordInput;\n" +
+            "    Menu menu;\n" +
+            "    LazyPageObject<Menu> footer;\n" +
+            "    public WebDriver getDriver() { return null; }\n" +
+            "    public static class Menu implements PageObject {\n" +
+            "        public WebDriver getDriver() { return null; }\n" +
+            "    }\n" +
+            "}\n";
+
+    private final static String PRIVATE_PAGE = "" +
+            "package sample;\n" +
+            "import de.lgohlke.selenium.pageobjects.*;\n" +
+            "import org.openqa.selenium.*;\n" +
+            "public class PrivatePage implements PageObject {\n" +
+            "    private LoginPage.Menu menu;\n" +
+            "    public WebDriver getDriver() { return null; }\n" +
+            "}\n";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    private SampleCompiler compiler;
+
+    @Before
+    public void beforeEachTest() throws IOException {
+        compiler = new SampleCompiler(temporaryFolder);
+    }
+
+    @Test
+    public void shouldGenerateInitializer() throws Exception {
+        compiler.compile("LoginPage", LOGIN_PAGE);
+
+        try (URLClassLoader loader = compiler.classLoader()) {
+            PageObjectInitializer<PageObject> initializer = initializer(loader, "sample.LoginPage_PageObjectInitializer");
+
+            assertThat(initializer.getNestedFields()).containsExactly("footer", "menu");
+            assertThat(initializer.getLocators()).containsEntry("usernameInput", By.cssSelector("#login"))
+                                                 .containsEntry("passwordInput", By.id("password"));
+
+            PageObject loginPage = (PageObject) loader.loadClass("sample.LoginPage").getDeclaredConstructor().newInstance();
+            PageObject menu      = (PageObject) loader.loadClass("sample.LoginPage$Menu").getDeclaredConstructor().newInstance();
+            initializer.setNestedField(loginPage, "menu", menu);
+
+            Field field = loginPage.getClass().getDeclaredField("menu");
+            field.setAccessible(true);
+            assertThat(field.get(loginPage)).isSameAs(menu);
+        }
+    }
+
+    @Test
+    public void shouldGenerateInitializerForNestedClasses() throws Exception {
+        compiler.compile("LoginPage", LOGIN_PAGE);
+
+        assertThat(compiler.classFile("LoginPage_Menu_PageObjectInitializer")).exists();
+    }
+
+    @Test
+    public void shouldGenerateInitializerForPrivateNestedPageObjects() throws Exception {
+        compiler.compile("LoginPage", LOGIN_PAGE);
+        compiler.compile("PrivatePage", PRIVATE_PAGE);
+
+        try (URLClassLoader loader = compiler.classLoader()) {
+            PageObjectInitializer<PageObject> initializer = initializer(loader, "sample.PrivatePage_PageObjectInitializer");
+            PageObject                        page        = (PageObject) loader.loadClass("sample.PrivatePage").getDeclaredConstructor().newInstance();
+            PageObject                        menu        = (PageObject) loader.loadClass("sample.LoginPage$Menu").getDeclaredConstructor().newInstance();
+            initializer.setNestedField(page, "menu", menu);
+
+            Field field = page.getClass().getDeclaredField("menu");
+            field.setAccessible(true);
+            assertThat(field.get(page)).isSameAs(menu);
+        }
+    }
+
+    @Test
+    public void shouldEscapeLiterals() {
+        assertThat(PageObjectProcessor.literal("a\"b\\c\n")).isEqualTo("\"a\\\"b\\\\c\\n\"");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static PageObjectInitializer<PageObject> initializer(ClassLoader loader, String name) throws Exception {
+        return (PageObjectInitializer<PageObject>) loader.loadClass(name).getDeclaredConstructor().newInstance();
+    }
+}
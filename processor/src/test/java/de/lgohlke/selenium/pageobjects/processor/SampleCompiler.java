@@ -0,0 +1,51 @@
+package de.lgohlke.selenium.pageobjects.processor;
+
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * compiles sources of the package {@code sample} with the {@link PageObjectProcessor}
+ */
+public final class SampleCompiler {
+    private final File sources;
+    private final File classes;
+
+    public SampleCompiler(TemporaryFolder temporaryFolder) throws IOException {
+        sources = temporaryFolder.newFolder("sources");
+        classes = temporaryFolder.newFolder("classes");
+        new File(sources, "sample").mkdirs();
+    }
+
+    public void compile(String name, String source) throws IOException {
+        File file = new File(sources, "sample/" + name + ".java");
+        Files.write(file.toPath(), source.getBytes());
+
+        JavaCompiler          compiler = ToolProvider.getSystemJavaCompiler();
+        ByteArrayOutputStream errors   = new ByteArrayOutputStream();
+        int result = compiler.run(null, null, errors,
+                                  "-classpath", System.getProperty("java.class.path") + File.pathSeparator + classes,
+                                  "-processor", PageObjectProcessor.class.getName(),
+                                  "-d", classes.getAbsolutePath(),
+                                  "-s", classes.getAbsolutePath(),
+                                  file.getAbsolutePath());
+        assertThat(result).as(errors.toString()).isEqualTo(0);
+    }
+
+    public File classFile(String name) {
+        return new File(classes, "sample/" + name + ".class");
+    }
+
+    public URLClassLoader classLoader() throws IOException {
+        return new URLClassLoader(new URL[]{classes.toURI().toURL()}, getClass().getClassLoader());
+    }
+}